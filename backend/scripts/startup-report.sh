@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+#
+# Cold-start report: plain fat jar vs. the -Pfast-startup build (Spring AOT + AppCDS).
+# Measures wall-clock time from process launch to the first 200 from /api/v1/health,
+# plus Spring's own "Started ... in" time, over several runs.
+#
+# Usage:
+#   ./mvnw -Pfast-startup -DskipTests package
+#   scripts/startup-report.sh [runs]
+#
+# The app needs a reachable database as usual (SPRING_DATASOURCE_URL, ...).
+# JAVA_OPTS is passed to every run; EXTRA_CLASSPATH appends jars such as a local JDBC driver.
+
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${STARTUP_PORT:-18080}
+JAVA=${JAVA:-java}
+JAVA_OPTS=${JAVA_OPTS:-}
+EXTRA_CLASSPATH=${EXTRA_CLASSPATH:-}
+
+JAR=$(ls target/*.jar | grep -v -- '-plain\|\.original' | head -n 1)
+FAST_DIR=target/fast-startup
+FAST_JAR=$FAST_DIR/$(basename "$JAR")
+ARCHIVE=$FAST_DIR/application.jsa
+
+if [[ ! -f "$FAST_JAR" || ! -f "$ARCHIVE" ]]; then
+    echo "Missing $FAST_JAR or $ARCHIVE; build with ./mvnw -Pfast-startup -DskipTests package" >&2
+    exit 1
+fi
+
+classpath() {
+    echo "$1${EXTRA_CLASSPATH:+:$EXTRA_CLASSPATH}"
+}
+
+# Launch once and print "<ms to first request> <Spring started-in seconds>"
+measure() {
+    local log
+    log=$(mktemp)
+    local start
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    "$JAVA" $JAVA_OPTS -Dserver.port="$PORT" "$@" >"$log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/v1/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup:" >&2
+            cat "$log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    local started
+    started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$log" | awk '{print $4}' | head -n 1)
+    rm -f "$log"
+    echo "$elapsed ${started:-?}"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+report() {
+    local name=$1
+    shift
+    local firsts=() starts=()
+    measure "$@" >/dev/null # warm the OS page cache
+    for ((i = 0; i < RUNS; i++)); do
+        read -r first started < <(measure "$@")
+        firsts+=("$first")
+        starts+=("$started")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${firsts[@]}" | sort -n)
+    printf '| %-32s | %8s | %8s | %8s | %10s |\n' "$name" \
+        "$(echo "$sorted" | median)" "$(echo "$sorted" | head -n 1)" "$(echo "$sorted" | tail -n 1)" \
+        "$(printf '%s\n' "${starts[@]}" | median)"
+}
+
+echo "Startup report: $RUNS runs each, $("$JAVA" -version 2>&1 | head -n 1)"
+echo
+printf '| %-32s | %8s | %8s | %8s | %10s |\n' "Variant" "p50 ms" "min ms" "max ms" "Started s"
+printf '|%s|%s|%s|%s|%s|\n' "----------------------------------" "----------" "----------" "----------" "------------"
+report "fat jar (java -jar)" -cp "$(classpath "$JAR")" org.springframework.boot.loader.launch.JarLauncher
+report "extracted jar" -cp "$(classpath "$FAST_JAR")" com.portfolio.backend.BackendApplication
+report "extracted + AppCDS" -XX:SharedArchiveFile="$ARCHIVE" \
+    -cp "$(classpath "$FAST_JAR")" com.portfolio.backend.BackendApplication
+report "extracted + AppCDS + Spring AOT" -XX:SharedArchiveFile="$ARCHIVE" -Dspring.aot.enabled=true \
+    -cp "$(classpath "$FAST_JAR")" com.portfolio.backend.BackendApplication
@@ -0,0 +1,84 @@
+package com.portfolio.backend;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.BlogRenderingListener;
+import com.portfolio.backend.model.ContactMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures shaped like production data: articles of roughly the size of the seeded posts,
+ * with headings, lists, a table and fenced code blocks.
+ */
+public final class BenchmarkData {
+
+    private static final String SECTION = """
+            ## Section heading with `inline code`
+
+            Spring Security's authentication system is built on a pipeline of filters, providers, and \
+            context holders. Understanding how they connect is key to configuring security correctly, \
+            and to reasoning about what happens when a request crosses the filter chain.
+
+            - **Scalability**: Scale individual components based on demand.
+            - **Resilience**: Failure in one service doesn't bring down the entire system.
+
+            | Benchmark | Standard | Reasoning |
+            | :--- | :--- | :--- |
+            | AIME 2024 | 9.3% | 79.8% |
+
+            ```java
+            @GetMapping("/users/{id}")
+            public ResponseEntity<UserDTO> getUser(@PathVariable Long id) {
+                return ResponseEntity.ok(convertToDto(userRepository.findById(id).orElseThrow()));
+            }
+            ```
+
+            """;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Markdown of about {@code kilobytes} KiB.
+     */
+    public static String article(int kilobytes) {
+        StringBuilder content = new StringBuilder(kilobytes * 1024 + SECTION.length());
+        while (content.length() < kilobytes * 1024) {
+            content.append(SECTION);
+        }
+        return content.toString();
+    }
+
+    public static Blog blog(long id, int kilobytes) {
+        Blog blog = new Blog();
+        blog.setId(id);
+        blog.setTitle("Microservices in Spring Boot: Architecture, Design Patterns, and Production Practices");
+        blog.setSlug("microservices-spring-boot-architecture-" + id);
+        blog.setExcerpt("A comprehensive guide to designing, building, and deploying microservices with Spring Boot.");
+        blog.setContent(article(kilobytes));
+        blog.setTags("Microservices, Spring Boot, Java, Architecture, Docker");
+        blog.setImageUrl("https://images.unsplash.com/photo-1558494949-ef010cbdcc31?q=80&w=2070&auto=format&fit=crop");
+        blog.setPublishedAt(LocalDateTime.of(2026, 5, 5, 10, 0));
+        BlogRenderingListener.apply(blog);
+        return blog;
+    }
+
+    public static List<Blog> blogs(int count, int kilobytes) {
+        List<Blog> blogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            blogs.add(blog(i + 1, kilobytes));
+        }
+        return blogs;
+    }
+
+    public static ContactMessage contactMessage(int messageLength) {
+        String line = "Hi! I'd like to talk about a <backend> role & your \"Spring\" work.\n";
+        ContactMessage message = new ContactMessage();
+        message.setName("Ada <Lovelace>");
+        message.setEmail("ada@example.com");
+        message.setMessage(line.repeat(Math.max(1, messageLength / line.length())));
+        return message;
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.BenchmarkData;
+import com.portfolio.backend.util.DtoConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a blog list page, the work a response-cache miss pays for.
+ * Uses the same Jackson 3 mapper type Spring MVC writes responses with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagedResponseSerializationBenchmark {
+
+    @Param({"4", "12", "32"})
+    public int articleKilobytes;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private PagedResponse<BlogDTO> fullPage;
+    private PagedResponse<BlogSummaryDTO> summaryPage;
+
+    @Setup
+    public void setUp() {
+        fullPage = PagedResponse.<BlogDTO>builder()
+                .items(DtoConverter.toBlogDTOList(BenchmarkData.blogs(10, articleKilobytes)))
+                .total(40L)
+                .page(0)
+                .size(10)
+                .totalPages(4)
+                .build();
+        summaryPage = PagedResponse.<BlogSummaryDTO>builder()
+                .items(fullPage.getItems().stream()
+                        .map(blog -> BlogSummaryDTO.builder()
+                                .id(blog.getId())
+                                .title(blog.getTitle())
+                                .slug(blog.getSlug())
+                                .excerpt(blog.getExcerpt())
+                                .tags(blog.getTags())
+                                .imageUrl(blog.getImageUrl())
+                                .publishedAt(blog.getPublishedAt())
+                                .readingTimeMinutes(blog.getReadingTimeMinutes())
+                                .build())
+                        .toList())
+                .total(40L)
+                .page(0)
+                .size(10)
+                .totalPages(4)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeFullPage() {
+        return mapper.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() {
+        return mapper.writeValueAsBytes(summaryPage);
+    }
+}
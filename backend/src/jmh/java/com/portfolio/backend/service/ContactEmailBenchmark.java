@@ -0,0 +1,49 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.BenchmarkData;
+import com.portfolio.backend.model.ContactMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML escaping and email body building in {@link ContactServiceImpl}, run once per submission.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContactEmailBenchmark {
+
+    @Param({"200", "5000"})
+    public int messageLength;
+
+    private ContactMessage message;
+
+    @Setup
+    public void setUp() {
+        message = BenchmarkData.contactMessage(messageLength);
+    }
+
+    @Benchmark
+    public String escapeHtml() {
+        return ContactServiceImpl.escapeHtml(message.getMessage());
+    }
+
+    @Benchmark
+    public String buildHtmlBody() {
+        return ContactServiceImpl.buildHtmlBody(message);
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.backend.util;
+
+import com.portfolio.backend.BenchmarkData;
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.model.Blog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping done on every uncached read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoConverterBenchmark {
+
+    private Blog blog;
+    private List<Blog> page;
+    private String tags;
+
+    @Setup
+    public void setUp() {
+        blog = BenchmarkData.blog(1, 12);
+        page = BenchmarkData.blogs(10, 12);
+        tags = blog.getTags();
+    }
+
+    @Benchmark
+    public BlogDTO toDTO() {
+        return DtoConverter.toDTO(blog);
+    }
+
+    @Benchmark
+    public List<BlogDTO> toBlogDTOList() {
+        return DtoConverter.toBlogDTOList(page);
+    }
+
+    @Benchmark
+    public List<String> splitCommaSeparated() {
+        return DtoConverter.splitCommaSeparated(tags);
+    }
+}
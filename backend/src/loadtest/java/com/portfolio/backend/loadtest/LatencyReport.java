@@ -0,0 +1,140 @@
+package com.portfolio.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Per-operation latency histograms (microsecond resolution, 3 significant digits) and error
+ * counts, summarized as throughput and p50/p90/p99/p99.9. Reports are written as pretty JSON
+ * with a stable layout so two runs can be compared with {@code diff} or {@code --baseline}.
+ */
+final class LatencyReport {
+
+    static final String ALL = "all";
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long elapsedNanos, boolean ok) {
+        recorders.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (!ok) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * Discard everything recorded so far, such as the warmup.
+     */
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Summaries of everything recorded since the last reset, per operation and over all of them.
+     */
+    Map<String, Stats> summarize(Duration elapsed) {
+        Map<String, Stats> summary = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            if (histogram.getTotalCount() > 0) {
+                summary.put(operation.name().toLowerCase(Locale.ROOT), Stats.of(histogram, errorCount, elapsed));
+                all.add(histogram);
+                allErrors += errorCount;
+            }
+        }
+        summary.put(ALL, Stats.of(all, allErrors, elapsed));
+        return summary;
+    }
+
+    static void write(Path path, Map<String, Object> report) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JSON.writeValue(path.toFile(), report);
+    }
+
+    static void print(PrintStream out, Map<String, Stats> summary) {
+        out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summary.forEach((name, stats) -> out.printf(Locale.ROOT, "%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.requests(), stats.errors(), stats.throughput(),
+                stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs()));
+    }
+
+    /**
+     * Print throughput and tail latency next to the same figures from an earlier report,
+     * with the relative change.
+     */
+    static void compare(PrintStream out, Map<String, Stats> summary, Path baselinePath) throws IOException {
+        JsonNode baseline = JSON.readTree(baselinePath.toFile()).path("operations");
+        out.printf("%nChange against %s:%n", baselinePath);
+        out.printf("%-10s %-28s %-28s %-28s %-28s%n", "operation", "req/s", "p50 ms", "p99 ms", "p99.9 ms");
+        summary.forEach((name, stats) -> {
+            JsonNode before = baseline.path(name);
+            if (before.isMissingNode()) {
+                return;
+            }
+            out.printf("%-10s %-28s %-28s %-28s %-28s%n", name,
+                    delta(before.path("throughput").asDouble(), stats.throughput()),
+                    delta(before.path("p50Ms").asDouble(), stats.p50Ms()),
+                    delta(before.path("p99Ms").asDouble(), stats.p99Ms()),
+                    delta(before.path("p999Ms").asDouble(), stats.p999Ms()));
+        });
+    }
+
+    private static String delta(double before, double after) {
+        String change = before == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (after - before) * 100 / before);
+        return String.format(Locale.ROOT, "%.2f -> %.2f (%s)", before, after, change);
+    }
+
+    record Stats(long requests, long errors, double throughput,
+                 double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static Stats of(Histogram histogram, long errors, Duration elapsed) {
+            double seconds = elapsed.toNanos() / 1e9;
+            return new Stats(histogram.getTotalCount(), errors, round(histogram.getTotalCount() / seconds),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return round(micros / 1000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 1000) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.portfolio.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.BackendApplication;
+
+/**
+ * Closed-loop load generator for the public API.
+ * <p>
+ * Each of {@code --concurrency} workers keeps one request in flight, picking the next
+ * operation at random by the {@code --mix} weights (seeded, so the sequence repeats between
+ * runs). Load is applied for {@code --warmup}, then recorded for {@code --duration}. Without
+ * {@code --target} the application is started in this JVM on an in-memory H2 database (or
+ * {@code --jdbc-url}), with outbox delivery going to a {@link ResendStub}; against an external
+ * server, point its {@code resend.api.url} at the stub URL printed on start.
+ * <p>
+ * Latency is measured from send to last body byte. A closed loop slows down with the server,
+ * so compare runs with the same concurrency and read p99.9 together with throughput.
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--concurrency=32 --duration=60s"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ResendStub resend = new ResendStub(options.resendLatency(), options.resendJitter(),
+                options.resendErrorRate())) {
+            System.out.println("Resend stub listening on " + resend.url());
+            ConfigurableApplicationContext app = options.target() == null ? startApplication(options, resend) : null;
+            try {
+                String target = app != null
+                        ? "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port")
+                        : options.target();
+                run(options, target, resend);
+            } finally {
+                if (app != null) {
+                    app.close();
+                }
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, String target, ResendStub resend)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<String> slugs = blogSlugs(client, target);
+        LatencyReport latencies = new LatencyReport();
+        AtomicLong contactSequence = new AtomicLong();
+
+        System.out.printf("Loading %s with %d workers: %s warmup, %s recorded, mix %s%n", target,
+                options.concurrency(), options.warmup(), options.duration(), options.mix());
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long stopAt = recordFrom + options.duration().toNanos();
+        CountDownLatch done = new CountDownLatch(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            Worker worker = new Worker(client, target, slugs, options, new Random(options.seed() + i),
+                    contactSequence, latencies, stopAt, done);
+            Thread thread = new Thread(worker, "load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        Thread.sleep(Math.max(0, Duration.ofNanos(recordFrom - System.nanoTime()).toMillis()));
+        latencies.reset();
+        long recordedFrom = System.nanoTime();
+        done.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - recordedFrom);
+
+        Map<String, LatencyReport.Stats> summary = latencies.summarize(elapsed);
+        System.out.println();
+        LatencyReport.print(System.out, summary);
+        System.out.printf("Resend stub: %d accepted, %d failed%n", resend.accepted(), resend.failed());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", runInfo(options, target, elapsed));
+        report.put("operations", summary);
+        report.put("resend", Map.of("accepted", resend.accepted(), "failed", resend.failed()));
+        LatencyReport.write(options.out(), report);
+        System.out.println("Report written to " + options.out().toAbsolutePath());
+        if (options.baseline() != null) {
+            LatencyReport.compare(System.out, summary, options.baseline());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, ResendStub resend) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--resend.api.url=" + resend.url(),
+                "--resend.api.key=load-test",
+                "--portfolio.outbox.enabled=true",
+                "--portfolio.outbox.poll-interval=1s",
+                "--portfolio.contact.rate-limit.enabled=false",
+                "--portfolio.snapshot.path=target/loadtest/snapshot.bin",
+                "--logging.level.root=WARN",
+                "--logging.level.com.portfolio=WARN"));
+        if (options.jdbcUrl() == null) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + options.jdbcUrl(),
+                    "--spring.datasource.driver-class-name=",
+                    "--spring.datasource.username=" + options.jdbcUser(),
+                    "--spring.datasource.password=" + options.jdbcPassword(),
+                    "--spring.jpa.properties.hibernate.dialect=",
+                    "--spring.jpa.hibernate.ddl-auto=update"));
+        }
+        return new SpringApplicationBuilder(BackendApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static List<String> blogSlugs(HttpClient client, String target) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(target + "/api/v1/blogs?page=0&size=50")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<String> slugs = new ArrayList<>();
+        JSON.readTree(response.body()).path("items").forEach(item -> slugs.add(item.path("slug").asText()));
+        if (slugs.isEmpty()) {
+            throw new IllegalStateException("No blog posts at " + target + " to request by slug");
+        }
+        return slugs;
+    }
+
+    private static Map<String, Object> runInfo(LoadTestOptions options, String target, Duration elapsed) {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", Instant.now().minus(elapsed).toString());
+        run.put("commit", gitCommit());
+        run.put("java", Runtime.version().toString());
+        run.put("processors", Runtime.getRuntime().availableProcessors());
+        run.put("target", options.target() == null
+                ? (options.jdbcUrl() == null ? "in-process, H2" : "in-process, " + options.jdbcUrl())
+                : target);
+        run.put("concurrency", options.concurrency());
+        run.put("warmup", options.warmup().toString());
+        run.put("duration", options.duration().toString());
+        run.put("mix", options.mix().entrySet().stream()
+                .map(e -> e.getKey().name().toLowerCase(Locale.ROOT) + ":" + e.getValue())
+                .collect(Collectors.joining(",")));
+        run.put("seed", options.seed());
+        run.put("resendLatency", options.resendLatency().toString());
+        run.put("resendJitter", options.resendJitter().toString());
+        run.put("resendErrorRate", options.resendErrorRate());
+        return run;
+    }
+
+    private static String gitCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String commit = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 ? commit : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    /**
+     * One closed-loop client: sends the next request as soon as the previous one completes.
+     */
+    private record Worker(HttpClient client, String target, List<String> slugs, LoadTestOptions options,
+                          Random random, AtomicLong contactSequence, LatencyReport latencies, long stopAt,
+                          CountDownLatch done) implements Runnable {
+
+        @Override
+        public void run() {
+            int totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+            try {
+                while (System.nanoTime() < stopAt) {
+                    Operation operation = pick(random.nextInt(totalWeight));
+                    HttpRequest request = request(operation);
+                    long begin = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        ok = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    }
+                    latencies.record(operation, System.nanoTime() - begin, ok);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private Operation pick(int roll) {
+            for (Map.Entry<Operation, Integer> entry : options.mix().entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Roll outside the mix weights");
+        }
+
+        private HttpRequest request(Operation operation) {
+            return switch (operation) {
+                case BLOGS -> get("/api/v1/blogs?page=0&size=10");
+                case BLOG -> get("/api/v1/blogs/" + slugs.get(random.nextInt(slugs.size())));
+                case PROJECTS -> get("/api/v1/projects?page=0&size=10");
+                case CONTACT -> {
+                    long n = contactSequence.incrementAndGet();
+                    String body = "{\"name\":\"Load Test\",\"email\":\"load" + (n % 1000) + "@example.com\","
+                            + "\"message\":\"Load test message " + n + "\"}";
+                    yield HttpRequest.newBuilder(URI.create(target + "/api/v1/contact"))
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(30))
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                }
+            };
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(target + path))
+                    .header("Accept-Encoding", "gzip")
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of {@link LoadTest}, as {@code --name=value} pairs. Every option has a default,
+ * so a bare run is a reproducible baseline.
+ */
+record LoadTestOptions(
+        String target,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        long seed,
+        Duration resendLatency,
+        Duration resendJitter,
+        double resendErrorRate,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        Path out,
+        Path baseline) {
+
+    static final String USAGE = """
+            Options (all --name=value):
+              --target=URL               existing server to load; default starts the app in-process on H2
+              --concurrency=16           closed-loop workers, each with one request in flight
+              --warmup=10s               load applied before recording starts
+              --duration=30s             recorded load
+              --mix=blogs:40,blog:40,projects:15,contact:5
+                                         relative weights of the operations
+              --seed=42                  random seed for the operation sequence
+              --resend-latency=80ms      Resend stub response time
+              --resend-jitter=40ms       extra uniform random delay on top of the latency
+              --resend-error-rate=0      share of Resend stub calls answered with 500
+              --jdbc-url=URL             in-process app only: local database instead of H2
+              --jdbc-user=root --jdbc-password=root
+              --out=target/loadtest/report.json
+              --baseline=PATH            earlier report to compare against
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg + "\n" + USAGE);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                take(values, "target", null),
+                Integer.parseInt(take(values, "concurrency", "16")),
+                DurationStyle.detectAndParse(take(values, "warmup", "10s")),
+                DurationStyle.detectAndParse(take(values, "duration", "30s")),
+                mix(take(values, "mix", "blogs:40,blog:40,projects:15,contact:5")),
+                Long.parseLong(take(values, "seed", "42")),
+                DurationStyle.detectAndParse(take(values, "resend-latency", "80ms")),
+                DurationStyle.detectAndParse(take(values, "resend-jitter", "40ms")),
+                Double.parseDouble(take(values, "resend-error-rate", "0")),
+                take(values, "jdbc-url", null),
+                take(values, "jdbc-user", "root"),
+                take(values, "jdbc-password", "root"),
+                Path.of(take(values, "out", "target/loadtest/report.json")),
+                Optional.ofNullable(take(values, "baseline", null)).map(Path::of).orElse(null));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet() + "\n" + USAGE);
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Mix needs at least one positive weight: " + value);
+        }
+        return weights;
+    }
+}
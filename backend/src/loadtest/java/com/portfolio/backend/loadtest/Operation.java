@@ -0,0 +1,15 @@
+package com.portfolio.backend.loadtest;
+
+/**
+ * The requests the load test issues, named as in {@code --mix}.
+ */
+enum Operation {
+    /** {@code GET /api/v1/blogs?page=0&size=10}, the summary list. */
+    BLOGS,
+    /** {@code GET /api/v1/blogs/{slug}} for a random seeded post. */
+    BLOG,
+    /** {@code GET /api/v1/projects?page=0&size=10}. */
+    PROJECTS,
+    /** {@code POST /api/v1/contact} with a unique message, so dedup does not absorb it. */
+    CONTACT
+}
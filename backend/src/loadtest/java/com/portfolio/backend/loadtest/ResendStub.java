@@ -0,0 +1,84 @@
+package com.portfolio.backend.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for {@code POST https://api.resend.com/emails}: answers after a configurable
+ * latency plus uniform jitter, and fails a configurable share of calls with 500, so outbox
+ * delivery runs under load without sending mail or touching the real quota.
+ */
+final class ResendStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    ResendStub(Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+        this.server.createContext("/emails", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/emails";
+    }
+
+    long accepted() {
+        return accepted.get();
+    }
+
+    long failed() {
+        return failed.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos) : 0);
+            try {
+                Thread.sleep(Duration.ofNanos(delay).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean fail = random.nextDouble() < errorRate;
+            int status = fail ? 500 : 200;
+            String body = fail ? "{\"message\":\"stub failure\"}" : "{\"id\":\"stub-" + accepted.incrementAndGet() + "\"}";
+            if (fail) {
+                failed.incrementAndGet();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.backend.admin;
+
+/**
+ * Thrown when an admin endpoint is called without the configured bearer token.
+ */
+public class AdminAccessDeniedException extends RuntimeException {
+
+    public AdminAccessDeniedException() {
+        super("Admin token required");
+    }
+}
@@ -0,0 +1,41 @@
+package com.portfolio.backend.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Guards {@code /api/v1/admin/**} with a shared bearer token from
+ * {@code portfolio.admin.token}. With no token configured every admin request is refused.
+ */
+@Component
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+
+    public AdminTokenInterceptor(@Value("${portfolio.admin.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (token.length == 0 || header == null || !header.startsWith(BEARER)) {
+            throw new AdminAccessDeniedException();
+        }
+        byte[] presented = header.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token, presented)) {
+            throw new AdminAccessDeniedException();
+        }
+        return true;
+    }
+}
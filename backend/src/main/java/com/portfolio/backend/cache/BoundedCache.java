@@ -0,0 +1,193 @@
+package com.portfolio.backend.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Small in-process LRU cache with a maximum size and a time-to-live per entry.
+ * Loaders run outside the lock, so a slow database call never blocks other readers;
+ * two concurrent misses for the same key may both load, and the last one wins.
+ * A load that overlaps an invalidation is returned but not cached, since it may have read
+ * the data from before the change. Loader results of {@code null} are not cached.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // Bumped by every invalidation; guarded by lock
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedCache(String name, int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value for {@code key}, or compute it with {@code loader} and cache it.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = generation();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            putIfGeneration(key, loaded, seen);
+        }
+        return loaded;
+    }
+
+    public V getIfPresent(K key) {
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        long expiresAt = ticker.getAsLong() + ttlNanos;
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current invalidation generation. Read it before loading a value, then cache the value
+     * with {@link #putIfGeneration} so it is dropped if an invalidation happened meanwhile.
+     */
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cache {@code value} unless the cache was invalidated since {@code seen} was read.
+     *
+     * @return whether the value was cached
+     */
+    public boolean putIfGeneration(K key, V value, long seen) {
+        long expiresAt = ticker.getAsLong() + ttlNanos;
+        lock.lock();
+        try {
+            if (generation != seen) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, expiresAt));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop expired entries eagerly. Expired entries are otherwise only removed when read.
+     */
+    public void cleanUp() {
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            Iterator<Entry<V>> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isExpired(now)) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(name, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
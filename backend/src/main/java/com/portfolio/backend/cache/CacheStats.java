@@ -0,0 +1,12 @@
+package com.portfolio.backend.cache;
+
+/**
+ * Point-in-time snapshot of a {@link BoundedCache}'s counters.
+ */
+public record CacheStats(String name, int size, long hits, long misses, long evictions) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
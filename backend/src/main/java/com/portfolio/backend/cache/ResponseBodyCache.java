@@ -0,0 +1,260 @@
+package com.portfolio.backend.cache;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.snapshot.SnapshotFile;
+import com.portfolio.backend.snapshot.SnapshotStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches fully rendered read responses: the JSON bytes, a gzipped copy and a strong ETag per
+ * resource (a single post, a list page). Serialization, compression and hashing happen once per
+ * content version; afterwards requests are answered from bytes, and conditional GETs get a 304
+ * before the service, the repository or Jackson are touched. Entries are dropped whenever a
+ * blog or project changes.
+ * <p>
+ * Misses consult the {@link SnapshotStore} first when it is serving, and fall back to it when
+ * loading fails because the database is unreachable.
+ */
+@Component
+@Slf4j
+public class ResponseBodyCache {
+
+    public enum Group {
+        BLOGS,
+        PROJECTS
+    }
+
+    private static final int MIN_GZIP_SIZE = 1024;
+
+    private final JsonMapper jsonMapper;
+    private final SnapshotStore snapshots;
+    private final BoundedCache<String, Rendered> blogBodies;
+    private final BoundedCache<String, Rendered> projectBodies;
+
+    public ResponseBodyCache(JsonMapper jsonMapper, SnapshotStore snapshots,
+                             @Value("${portfolio.cache.max-size:256}") int maxSize,
+                             @Value("${portfolio.cache.ttl:10m}") Duration ttl) {
+        this.jsonMapper = jsonMapper;
+        this.snapshots = snapshots;
+        this.blogBodies = new BoundedCache<>("responses.blogs", maxSize, ttl);
+        this.projectBodies = new BoundedCache<>("responses.projects", maxSize, ttl);
+    }
+
+    /**
+     * Answer a GET for {@code key}: 304 if the client's {@code If-None-Match} matches, otherwise
+     * the cached bytes (gzipped when the client accepts it), loading and rendering the body on a
+     * miss. Returns 404 when the loader finds nothing.
+     */
+    public ResponseEntity<byte[]> get(Group group, String key, WebRequest request,
+                                      Supplier<? extends Optional<?>> loader) {
+        Rendered rendered = bodies(group).getIfPresent(key);
+        if (rendered == null) {
+            rendered = snapshots.serve(snapshotKey(group, key)).map(Rendered::of).orElse(null);
+        }
+        if (rendered == null) {
+            rendered = load(group, key, loader);
+            if (rendered == null) {
+                return ResponseEntity.notFound().build();
+            }
+        }
+        return respond(rendered, request);
+    }
+
+    /**
+     * Answer a GET with an already rendered body: 304 if the client's {@code If-None-Match}
+     * matches, otherwise the bytes, gzipped when the client accepts it.
+     */
+    public ResponseEntity<byte[]> respond(Rendered rendered, WebRequest request) {
+        boolean gzip = rendered.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? rendered.gzipEtag() : rendered.etag();
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), rendered)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return response.body(rendered.json());
+    }
+
+    /**
+     * Serialize, compress and hash a response body.
+     */
+    public Rendered render(Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        byte[] gzip = json.length >= MIN_GZIP_SIZE ? gzip(json) : null;
+        return Rendered.of(json, gzip, hash(json));
+    }
+
+    /**
+     * The key under which {@code key} of {@code group} is stored in a snapshot.
+     */
+    public static String snapshotKey(Group group, String key) {
+        return group.name().toLowerCase() + ":" + key;
+    }
+
+    public void invalidate(Group group) {
+        bodies(group).invalidateAll();
+    }
+
+    public CacheStats stats(Group group) {
+        return bodies(group).stats();
+    }
+
+    // Runs after the DTO caches are cleared: a body rendered from a DTO they still held would
+    // otherwise be cached under the new generation
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.isBlog()) {
+            invalidate(Group.BLOGS);
+        } else if (event.isProject()) {
+            invalidate(Group.PROJECTS);
+        }
+    }
+
+    private Rendered load(Group group, String key, Supplier<? extends Optional<?>> loader) {
+        long generation = bodies(group).generation();
+        Optional<?> body;
+        try {
+            body = loader.get();
+        } catch (DataAccessException | TransactionException e) {
+            Optional<SnapshotFile.Entry> fallback = snapshots.fallback(snapshotKey(group, key));
+            if (fallback.isEmpty()) {
+                throw e;
+            }
+            log.warn("Serving {} {} from snapshot: {}", group, key, e.getMessage());
+            return Rendered.of(fallback.get());
+        }
+        if (body.isEmpty()) {
+            return null;
+        }
+        Rendered rendered = render(body.get());
+        // Only cache the body if no change landed while it was loading
+        bodies(group).putIfGeneration(key, rendered, generation);
+        return rendered;
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header names either encoding of this body (or is {@code *}).
+     * Weak comparison is used, as RFC 9110 requires for If-None-Match.
+     */
+    static boolean matches(String ifNoneMatch, Rendered rendered) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(rendered.etag()) || tag.equals(rendered.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            String coding = params[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().replace(" ", "");
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private BoundedCache<String, Rendered> bodies(Group group) {
+        return group == Group.BLOGS ? blogBodies : projectBodies;
+    }
+
+    /**
+     * A response body ready to send: JSON, gzipped JSON (only for larger bodies) and their ETags.
+     */
+    public record Rendered(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+        static Rendered of(byte[] json, byte[] gzip, String hash) {
+            return new Rendered(json, gzip, "\"" + hash + "\"", "\"" + hash + "-gz\"");
+        }
+
+        static Rendered of(SnapshotFile.Entry entry) {
+            return of(entry.json(), entry.gzip(), entry.hash());
+        }
+
+        public SnapshotFile.Entry toSnapshotEntry() {
+            return new SnapshotFile.Entry(json, gzip, etag.substring(1, etag.length() - 1));
+        }
+    }
+}
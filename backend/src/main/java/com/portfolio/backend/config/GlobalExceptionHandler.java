@@ -1,8 +1,13 @@
 package com.portfolio.backend.config;
 
+import com.portfolio.backend.admin.AdminAccessDeniedException;
+import com.portfolio.backend.ratelimit.RateLimitExceededException;
+import com.portfolio.backend.util.InvalidRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +41,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handle malformed query input such as tampered pagination cursors.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException ex) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    /**
+     * Handle requests missing a required query parameter.
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Map<String, String>> handleMissingParameter(MissingServletRequestParameterException ex) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getParameterName() + " is required"));
+    }
+
+    /**
+     * Handle clients that exceeded their rate limit.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    /**
+     * Handle admin requests without a valid bearer token.
+     */
+    @ExceptionHandler(AdminAccessDeniedException.class)
+    public ResponseEntity<Map<String, String>> handleAdminAccessDenied(AdminAccessDeniedException ex) {
+        log.warn("Rejected admin request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(Map.of("error", ex.getMessage()));
+    }
+
     /**
      * Handle general runtime exceptions.
      * Logs the full error but returns a sanitized message to the client.
@@ -0,0 +1,102 @@
+package com.portfolio.backend.config;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.portfolio.backend.cache.CacheStats;
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.ratelimit.ContactDeduplicator;
+import com.portfolio.backend.ratelimit.ContactRateLimiter;
+import com.portfolio.backend.ratelimit.RateLimiterStats;
+import com.portfolio.backend.service.CachingBlogService;
+import com.portfolio.backend.service.CachingProjectService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the in-process cache and rate limiter counters next to the timers Spring Boot
+ * records for HTTP requests and repository calls and {@code @Timed} records for services.
+ * Everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(CachingBlogService blogService, CachingProjectService projectService,
+                                    ResponseBodyCache responseBodyCache, ContactDeduplicator deduplicator) {
+        return registry -> {
+            bindCaches(registry, blogService, CachingBlogService::cacheStats);
+            bindCaches(registry, projectService, CachingProjectService::cacheStats);
+            bindCaches(registry, responseBodyCache, cache -> List.of(
+                    cache.stats(ResponseBodyCache.Group.BLOGS),
+                    cache.stats(ResponseBodyCache.Group.PROJECTS)));
+            bindCaches(registry, deduplicator, dedup -> List.of(dedup.stats()));
+        };
+    }
+
+    /**
+     * Limiter totals come from counters that survive bucket eviction, so they only grow as a
+     * Prometheus counter must. Per-key counts are not exported: keys are client IPs and email
+     * hashes, unbounded as tag values; {@code /api/v1/admin/rate-limits} lists the top ones.
+     */
+    @Bean
+    public MeterBinder rateLimiterMetrics(ContactRateLimiter contactRateLimiter) {
+        return registry -> {
+            for (RateLimiterStats initial : contactRateLimiter.stats(0)) {
+                String name = initial.name();
+                Function<ContactRateLimiter, RateLimiterStats> current = limiter -> limiter.stats(0).stream()
+                        .filter(stats -> stats.name().equals(name))
+                        .findFirst()
+                        .orElseThrow();
+                FunctionCounter.builder("portfolio.ratelimit.requests", contactRateLimiter,
+                                limiter -> current.apply(limiter).allowed())
+                        .tags("limiter", name, "result", "allowed")
+                        .register(registry);
+                FunctionCounter.builder("portfolio.ratelimit.requests", contactRateLimiter,
+                                limiter -> current.apply(limiter).rejected())
+                        .tags("limiter", name, "result", "rejected")
+                        .register(registry);
+                FunctionCounter.builder("portfolio.ratelimit.evictions", contactRateLimiter,
+                                limiter -> current.apply(limiter).evictions())
+                        .tag("limiter", name)
+                        .register(registry);
+                Gauge.builder("portfolio.ratelimit.keys", contactRateLimiter,
+                                limiter -> current.apply(limiter).trackedKeys())
+                        .tag("limiter", name)
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Register one set of meters per cache. The owner is a singleton bean, so the weak
+     * reference Micrometer keeps to it never clears.
+     */
+    private static <T> void bindCaches(MeterRegistry registry, T owner, Function<T, List<CacheStats>> statsOf) {
+        for (CacheStats initial : statsOf.apply(owner)) {
+            String name = initial.name();
+            Function<T, CacheStats> current = o -> statsOf.apply(o).stream()
+                    .filter(stats -> stats.name().equals(name))
+                    .findFirst()
+                    .orElseThrow();
+            FunctionCounter.builder("portfolio.cache.hits", owner, o -> current.apply(o).hits())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionCounter.builder("portfolio.cache.misses", owner, o -> current.apply(o).misses())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionCounter.builder("portfolio.cache.evictions", owner, o -> current.apply(o).evictions())
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("portfolio.cache.size", owner, o -> current.apply(o).size())
+                    .tag("cache", name)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.portfolio.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.portfolio.backend.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read/write split, active when {@code portfolio.datasource.replica.url} is set.
+ * <p>
+ * The primary pool is built from {@code spring.datasource.*} as before, the replica pool from
+ * {@code portfolio.datasource.replica.*}; each is sized through its own {@code hikari.*}
+ * properties. {@code @Transactional(readOnly = true)} work, which covers every blog and
+ * project read, runs on the replica; writes run on the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${portfolio.datasource.replica.url:}'.isEmpty()")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("portfolio.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${portfolio.datasource.replica.url}") String url,
+            @Value("${portfolio.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${portfolio.datasource.replica.password:${spring.datasource.password:}}") String password,
+            DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${portfolio.datasource.replica.retry-interval:10s}") Duration retryInterval,
+            @Value("${portfolio.datasource.replica.read-after-write-window:2s}") Duration readAfterWriteWindow) {
+        return new ReadReplicaRoutingDataSource(primary, replica, retryInterval, readAfterWriteWindow);
+    }
+
+    /**
+     * The data source JPA and everything else is wired to. Connections are fetched on the
+     * first statement, after the transaction has been marked read-only or not.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
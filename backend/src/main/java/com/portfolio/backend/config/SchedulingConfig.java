@@ -0,0 +1,12 @@
+package com.portfolio.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the contact email outbox dispatcher.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
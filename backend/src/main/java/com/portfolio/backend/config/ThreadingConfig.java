@@ -0,0 +1,54 @@
+package com.portfolio.backend.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual-thread execution mode, switched on with {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Spring Boot moves Tomcat request handling, the {@code @Scheduled} scheduler and the
+ * application task executor onto virtual threads when the property is set and the JRE is 21+;
+ * this class covers the outbound Resend client, which Boot does not manage. The code still
+ * targets Java 17, so on an older JRE the property is ignored and a warning is logged.
+ */
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    private final Environment environment;
+
+    public ThreadingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public HttpClient resendHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(new VirtualThreadTaskExecutor("resend-"));
+        }
+        return builder.build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Virtual threads enabled for request handling, scheduling and outbound HTTP");
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                    + "running on platform threads", Runtime.version().feature());
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.portfolio.backend.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.admin.AdminTokenInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -15,7 +17,7 @@ public class WebConfig {
     }
 
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
+    public WebMvcConfigurer corsConfigurer(AdminTokenInterceptor adminTokenInterceptor) {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(CorsRegistry registry) {
@@ -26,8 +28,14 @@ public class WebConfig {
                                                                                                                      // Production
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("ETag")
                         .allowCredentials(true);
             }
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(adminTokenInterceptor).addPathPatterns("/api/v1/admin/**");
+            }
         };
     }
 }
@@ -0,0 +1,47 @@
+package com.portfolio.backend.content;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * One parsed Markdown content file: its front-matter attributes, the Markdown body below them,
+ * and the SHA-256 of the file's bytes, which the importer compares to skip unchanged files.
+ */
+public record ContentFile(Type type, String path, String slug, Map<String, String> attributes, String body,
+                          String hash) {
+
+    public enum Type {
+        BLOG,
+        PROJECT
+    }
+
+    public String attribute(String name) {
+        String value = attributes.get(name);
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    public String requiredAttribute(String name) {
+        String value = attribute(name);
+        if (value == null) {
+            throw new InvalidContentException("missing front-matter field '" + name + "'");
+        }
+        return value;
+    }
+
+    /**
+     * The {@code name} attribute as an ISO date-time, or an ISO date at midnight; null if absent.
+     */
+    public LocalDateTime dateTimeAttribute(String name) {
+        String value = attribute(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidContentException("'" + name + "' is not an ISO date or date-time: " + value);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.portfolio.backend.content;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses Markdown files with a front-matter block of {@code key: value} lines between two
+ * {@code ---} fences. Values may be double-quoted (with {@code \"} and {@code \\} escapes) or
+ * written as a {@code [a, b]} list, which is stored comma separated like the entity columns.
+ * <p>
+ * The file is read line by line in a single pass that also hashes its bytes, and the stream is
+ * left open, so entries can be parsed straight out of an archive.
+ */
+@UtilityClass
+public class ContentFileParser {
+
+    /**
+     * Longer bodies are rejected: blog bodies go into {@code blog.content}, a MySQL {@code TEXT}
+     * column holding at most this many bytes of UTF-8, and a row that does not fit would fail
+     * its whole import batch.
+     */
+    public static final int MAX_BODY_BYTES = 65_535;
+
+    private static final String FENCE = "---";
+
+    /**
+     * The content type of a file at this path: Markdown files directly inside a {@code blogs}
+     * or {@code projects} directory. Null for anything else, which the importer ignores.
+     */
+    public static ContentFile.Type typeOf(String path) {
+        String normalized = path.replace('\\', '/');
+        if (!normalized.toLowerCase(Locale.ROOT).endsWith(".md")) {
+            return null;
+        }
+        int slash = normalized.lastIndexOf('/');
+        if (slash < 0) {
+            return null;
+        }
+        String directory = normalized.substring(normalized.lastIndexOf('/', slash - 1) + 1, slash);
+        return switch (directory) {
+            case "blogs" -> ContentFile.Type.BLOG;
+            case "projects" -> ContentFile.Type.PROJECT;
+            default -> null;
+        };
+    }
+
+    public static ContentFile parse(ContentFile.Type type, String path, InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new DigestInputStream(in, digest), StandardCharsets.UTF_8));
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        StringBuilder body = new StringBuilder();
+        String line = reader.readLine();
+        if (line != null && line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        if (line != null && line.strip().equals(FENCE)) {
+            int lineNumber = 1;
+            while (true) {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    throw new InvalidContentException("front-matter is not closed with '" + FENCE + "'");
+                }
+                if (line.strip().equals(FENCE)) {
+                    break;
+                }
+                parseAttribute(line, lineNumber, attributes);
+            }
+            line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+        }
+        long bodyBytes = 0;
+        while (line != null) {
+            body.append(line).append('\n');
+            bodyBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (bodyBytes > MAX_BODY_BYTES) {
+                throw new InvalidContentException("body is larger than " + MAX_BODY_BYTES + " bytes");
+            }
+            line = reader.readLine();
+        }
+
+        String slug = attributes.containsKey("slug") ? attributes.get("slug") : fileSlug(path);
+        if (slug.isBlank()) {
+            throw new InvalidContentException("missing slug");
+        }
+        return new ContentFile(type, path, slug, Map.copyOf(attributes), body.toString(),
+                HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static void parseAttribute(String line, int lineNumber, Map<String, String> attributes) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return;
+        }
+        int colon = trimmed.indexOf(':');
+        if (colon <= 0) {
+            throw new InvalidContentException("line " + lineNumber + ": expected 'key: value'");
+        }
+        attributes.put(trimmed.substring(0, colon).strip(), value(trimmed.substring(colon + 1).strip(), lineNumber));
+    }
+
+    private static String value(String raw, int lineNumber) {
+        if (raw.startsWith("\"")) {
+            if (raw.length() < 2 || !raw.endsWith("\"") || (raw.endsWith("\\\"") && !raw.endsWith("\\\\\""))) {
+                throw new InvalidContentException("line " + lineNumber + ": unterminated quoted value");
+            }
+            StringBuilder value = new StringBuilder(raw.length());
+            for (int i = 1; i < raw.length() - 1; i++) {
+                char c = raw.charAt(i);
+                if (c == '\\' && i + 1 < raw.length() - 1) {
+                    c = raw.charAt(++i);
+                }
+                value.append(c);
+            }
+            return value.toString();
+        }
+        if (raw.startsWith("[") && raw.endsWith("]")) {
+            return String.join(", ", raw.substring(1, raw.length() - 1).strip().split("\\s*,\\s*"));
+        }
+        return raw;
+    }
+
+    private static String fileSlug(String path) {
+        String name = path.substring(path.replace('\\', '/').lastIndexOf('/') + 1);
+        return name.substring(0, name.length() - ".md".length());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
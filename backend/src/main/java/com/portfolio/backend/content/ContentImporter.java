@@ -0,0 +1,265 @@
+package com.portfolio.backend.content;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.TocConverter;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.util.MarkdownRenderer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads Markdown content files into the {@code blog} and {@code projects} tables with batched
+ * JDBC upserts keyed by slug. Files are parsed one at a time as the source yields them and
+ * written {@code batchSize} rows per transaction. Each batch costs one query for the stored
+ * content hashes, then one batched insert and one batched update; files whose hash is
+ * unchanged are not written at all.
+ * <p>
+ * The writes bypass JPA, so the importer does what the entity listeners would: it renders
+ * blog Markdown before writing, and publishes a {@link ContentChangedEvent} per written row so
+ * caches and indexes catch up once the batch commits.
+ */
+@Component
+@Slf4j
+public class ContentImporter {
+
+    private static final TocConverter TOC_CONVERTER = new TocConverter();
+    private static final int MAX_EXCERPT_LENGTH = 500;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    private static final Table BLOGS = new Table("blog", List.of("title", "content", "content_html", "toc",
+            "word_count", "reading_time_minutes", "excerpt", "tags", "image_url", "published_at", "content_hash"),
+            "published_at");
+    private static final Table PROJECTS = new Table("projects", List.of("title", "description", "tech_stack",
+            "github_url", "live_demo_url", "image_url", "featured", "content_hash"), null);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlogRepository blogRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher publisher;
+    private final int batchSize;
+
+    public ContentImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           BlogRepository blogRepository, ProjectRepository projectRepository,
+                           ApplicationEventPublisher publisher,
+                           @Value("${portfolio.content.import.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blogRepository = blogRepository;
+        this.projectRepository = projectRepository;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import every blog and project file in the source. Rejected files are reported in the
+     * result and do not stop the import; a failing batch does, leaving earlier batches committed
+     * (running the import again skips them by hash).
+     */
+    public synchronized ImportResult importFrom(ContentSource source) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        Map<ContentFile.Type, Map<String, Row>> pending = new EnumMap<>(ContentFile.Type.class);
+        source.forEach((path, in) -> {
+            ContentFile.Type type = ContentFileParser.typeOf(path);
+            if (type == null) {
+                return;
+            }
+            Row row;
+            try {
+                row = toRow(ContentFileParser.parse(type, path, in));
+            } catch (InvalidContentException e) {
+                progress.reject(path, e.getMessage());
+                return;
+            }
+            Map<String, Row> batch = pending.computeIfAbsent(type, t -> new LinkedHashMap<>());
+            batch.put(row.slug(), row);
+            if (batch.size() >= batchSize) {
+                flush(type, batch.values(), progress);
+                batch.clear();
+            }
+        });
+        pending.forEach((type, batch) -> flush(type, batch.values(), progress));
+
+        ImportResult result = progress.result();
+        log.info("Imported content in {} ms: {} inserted, {} updated, {} unchanged, {} rejected",
+                (System.nanoTime() - start) / 1_000_000, result.inserted(), result.updated(),
+                result.unchanged(), result.failed());
+        return result;
+    }
+
+    private void flush(ContentFile.Type type, Collection<Row> rows, Progress progress) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Table table = type == ContentFile.Type.BLOG ? BLOGS : PROJECTS;
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, String> storedHashes = storedHashes(table, rows);
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            List<String> written = new ArrayList<>();
+            for (Row row : rows) {
+                if (!storedHashes.containsKey(row.slug())) {
+                    inserts.add(row.insertArgs());
+                } else if (!row.hash().equals(storedHashes.get(row.slug()))) {
+                    updates.add(row.updateArgs());
+                } else {
+                    progress.unchanged++;
+                    continue;
+                }
+                written.add(row.slug());
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(table.insertSql(), inserts);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(table.updateSql(), updates);
+            }
+            progress.inserted += inserts.size();
+            progress.updated += updates.size();
+            if (!written.isEmpty()) {
+                List<?> entities = type == ContentFile.Type.BLOG
+                        ? blogRepository.findBySlugIn(written)
+                        : projectRepository.findBySlugIn(written);
+                entities.forEach(entity ->
+                        publisher.publishEvent(new ContentChangedEvent(entity, ContentChangedEvent.Action.SAVED)));
+            }
+        });
+    }
+
+    private Map<String, String> storedHashes(Table table, Collection<Row> rows) {
+        String sql = "SELECT slug, content_hash FROM " + table.name() + " WHERE slug IN ("
+                + String.join(", ", Collections.nCopies(rows.size(), "?")) + ")";
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            // Rows created before the import have no hash; "" never matches, so they get updated
+            String hash = rs.getString("content_hash");
+            hashes.put(rs.getString("slug"), hash == null ? "" : hash);
+        }, rows.stream().map(Row::slug).toArray());
+        return hashes;
+    }
+
+    private static Row toRow(ContentFile file) {
+        return switch (file.type()) {
+            case BLOG -> toBlogRow(file);
+            case PROJECT -> toProjectRow(file);
+        };
+    }
+
+    private static Row toBlogRow(ContentFile file) {
+        String excerpt = file.attribute("excerpt");
+        if (excerpt != null && excerpt.length() > MAX_EXCERPT_LENGTH) {
+            throw new InvalidContentException("excerpt is longer than " + MAX_EXCERPT_LENGTH + " characters");
+        }
+        MarkdownRenderer.Rendered rendered = MarkdownRenderer.render(file.body());
+        return new Row(file.slug(), file.hash(), new Object[]{
+                file.requiredAttribute("title"),
+                file.body(),
+                rendered.html(),
+                TOC_CONVERTER.convertToDatabaseColumn(rendered.toc()),
+                rendered.wordCount(),
+                rendered.readingTimeMinutes(),
+                excerpt,
+                file.attribute("tags"),
+                file.attribute("imageUrl"),
+                file.dateTimeAttribute("publishedAt"),
+                file.hash()});
+    }
+
+    private static Row toProjectRow(ContentFile file) {
+        String description = file.body().isBlank() ? file.attribute("description") : file.body().strip();
+        if (description == null) {
+            throw new InvalidContentException("missing description (the file body)");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidContentException("description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        return new Row(file.slug(), file.hash(), new Object[]{
+                file.requiredAttribute("title"),
+                description,
+                file.attribute("techStack"),
+                file.attribute("githubUrl"),
+                file.attribute("liveDemoUrl"),
+                file.attribute("imageUrl"),
+                Boolean.parseBoolean(file.attribute("featured")),
+                file.hash()});
+    }
+
+    /**
+     * Upsert statements for one table. The {@code defaulted} column keeps its stored value on
+     * update, and gets the current time on insert, when the file does not set it.
+     */
+    private record Table(String name, List<String> columns, String defaulted) {
+
+        String insertSql() {
+            String values = columns.stream()
+                    .map(column -> column.equals(defaulted) ? "COALESCE(?, CURRENT_TIMESTAMP)" : "?")
+                    .collect(Collectors.joining(", "));
+            return "INSERT INTO " + name + " (slug, " + String.join(", ", columns) + ") VALUES (?, " + values + ")";
+        }
+
+        String updateSql() {
+            String assignments = columns.stream()
+                    .map(column -> column + (column.equals(defaulted) ? " = COALESCE(?, " + column + ")" : " = ?"))
+                    .collect(Collectors.joining(", "));
+            return "UPDATE " + name + " SET " + assignments + " WHERE slug = ?";
+        }
+    }
+
+    /**
+     * One file's column values, in {@link Table#columns()} order.
+     */
+    private record Row(String slug, String hash, Object[] values) {
+
+        Object[] insertArgs() {
+            Object[] args = new Object[values.length + 1];
+            args[0] = slug;
+            System.arraycopy(values, 0, args, 1, values.length);
+            return args;
+        }
+
+        Object[] updateArgs() {
+            Object[] args = new Object[values.length + 1];
+            System.arraycopy(values, 0, args, 0, values.length);
+            args[values.length] = slug;
+            return args;
+        }
+    }
+
+    private static final class Progress {
+        int inserted;
+        int updated;
+        int unchanged;
+        final List<String> errors = new ArrayList<>();
+        int failed;
+
+        void reject(String path, String reason) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(path + ": " + reason);
+            }
+            log.warn("Skipped content file {}: {}", path, reason);
+        }
+
+        ImportResult result() {
+            return new ImportResult(inserted, updated, unchanged, failed, List.copyOf(errors));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.backend.content;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A tree of content files, handed to the importer one at a time so that a large directory or
+ * archive never has to be held in memory. Paths use {@code /} separators; the importer picks
+ * the files it knows by their directory (see {@link ContentFileParser#typeOf}).
+ */
+@FunctionalInterface
+public interface ContentSource {
+
+    void forEach(EntryHandler handler) throws IOException;
+
+    @FunctionalInterface
+    interface EntryHandler {
+
+        /**
+         * Handle one file. The stream is only valid during the call and must not be closed.
+         */
+        void accept(String path, InputStream in) throws IOException;
+    }
+
+    /**
+     * Files under a directory on disk, in path order.
+     */
+    static ContentSource directory(Path root) {
+        return handler -> {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(root)) {
+                files = walk.filter(Files::isRegularFile).sorted(Comparator.naturalOrder()).toList();
+            }
+            for (Path file : files) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    handler.accept(root.relativize(file).toString().replace('\\', '/'), in);
+                }
+            }
+        };
+    }
+
+    /**
+     * Entries of a ZIP archive, read sequentially from the stream as they arrive.
+     */
+    static ContentSource zip(InputStream archive) {
+        return handler -> {
+            ZipInputStream zip = new ZipInputStream(archive);
+            InputStream entryStream = new FilterInputStream(zip) {
+                @Override
+                public void close() {
+                    // the archive stays open for the following entries
+                }
+            };
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    handler.accept(entry.getName(), entryStream);
+                }
+            }
+        };
+    }
+
+    /**
+     * Files below a classpath location, whether it is a directory or inside a jar.
+     */
+    static ContentSource classpath(String location) {
+        return handler -> {
+            String base = location.endsWith("/") ? location : location + "/";
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:" + base + "**/*.md");
+            for (Resource resource : resources) {
+                if (!resource.isReadable()) {
+                    continue;
+                }
+                String url = resource.getURL().toString();
+                String path = url.substring(url.lastIndexOf(base) + base.length());
+                try (InputStream in = resource.getInputStream()) {
+                    handler.accept(path, in);
+                }
+            }
+        };
+    }
+}
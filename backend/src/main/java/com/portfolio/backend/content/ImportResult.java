@@ -0,0 +1,10 @@
+package com.portfolio.backend.content;
+
+import java.util.List;
+
+/**
+ * Outcome of one content import. {@code unchanged} files matched the stored content hash and
+ * were not written; {@code errors} names each rejected file and why.
+ */
+public record ImportResult(int inserted, int updated, int unchanged, int failed, List<String> errors) {
+}
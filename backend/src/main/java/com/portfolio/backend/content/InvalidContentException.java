@@ -0,0 +1,13 @@
+package com.portfolio.backend.content;
+
+import com.portfolio.backend.util.InvalidRequestException;
+
+/**
+ * Thrown when an imported content file has malformed front-matter or lacks a required field.
+ */
+public class InvalidContentException extends InvalidRequestException {
+
+    public InvalidContentException(String message) {
+        super(message);
+    }
+}
@@ -1,31 +1,170 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.dto.BatchResponse;
 import com.portfolio.backend.dto.BlogDTO;
-import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.BlogSummaryDTO;
 import com.portfolio.backend.service.BlogService;
+import com.portfolio.backend.service.RelatedContentService;
+import com.portfolio.backend.util.BatchSlugs;
+import com.portfolio.backend.util.DtoConverter;
+import com.portfolio.backend.util.InvalidRequestException;
+import com.portfolio.backend.util.PageParams;
+import com.portfolio.backend.views.DecayingHeavyHitters;
+import com.portfolio.backend.views.TrendingContent;
+import com.portfolio.backend.views.ViewCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/blogs")
 @RequiredArgsConstructor
 public class BlogController {
 
+    private static final int MAX_RANKED = 50;
+
     private final BlogService blogService;
+    private final RelatedContentService relatedService;
+    private final ResponseBodyCache responses;
+    private final ViewCounter viewCounter;
+    private final TrendingContent trending;
 
+    /**
+     * List blogs. The default {@code summary} view omits the article body;
+     * {@code view=full} returns complete posts for clients that still need them.
+     * Passing {@code cursor} (empty for the first page) switches the summary view to
+     * keyset pagination, which skips the count query unless {@code includeTotal} is set.
+     * One or more {@code tag} parameters restrict the summary view to posts carrying all of them;
+     * tag filtering pages by offset only, so {@code tag} together with {@code cursor} is a 400.
+     * {@code size} is capped at {@link PageParams#MAX_SIZE}; a size below one or a negative page is a 400.
+     */
     @GetMapping
-    public ResponseEntity<PagedResponse<BlogDTO>> getAllBlogs(
+    public ResponseEntity<byte[]> getAllBlogs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getAllBlogs(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "summary") String view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) List<String> tag,
+            WebRequest request) {
+        int pageNumber = PageParams.page(page);
+        int pageSize = PageParams.size(size);
+        boolean full = "full".equalsIgnoreCase(view);
+        if (tag != null && !tag.isEmpty() && cursor != null) {
+            throw new InvalidRequestException("'tag' cannot be combined with 'cursor'; page tag filters with 'page'");
+        }
+        if (tag != null && !tag.isEmpty() && !full) {
+            return responses.get(ResponseBodyCache.Group.BLOGS,
+                    "tag:" + tag + ":" + pageNumber + ":" + pageSize, request,
+                    () -> Optional.of(blogService.getBlogSummariesByTags(tag, pageNumber, pageSize)));
+        }
+        if (cursor != null && !full) {
+            return responses.get(ResponseBodyCache.Group.BLOGS,
+                    "cursor:" + cursor + ":" + pageSize + ":" + includeTotal, request,
+                    () -> Optional.of(blogService.getBlogSummariesAfter(cursor, pageSize, includeTotal)));
+        }
+        if (full) {
+            return responses.get(ResponseBodyCache.Group.BLOGS, "full:" + pageNumber + ":" + pageSize, request,
+                    () -> Optional.of(blogService.getAllBlogs(pageNumber, pageSize)));
+        }
+        return responses.get(ResponseBodyCache.Group.BLOGS, "summary:" + pageNumber + ":" + pageSize, request,
+                () -> Optional.of(blogService.getBlogSummaries(pageNumber, pageSize)));
+    }
+
+    /**
+     * The most viewed posts, most views first, with their {@code viewCount}. Ranked from the
+     * in-memory counters, so views count here before they are flushed to the database.
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<BlogSummaryDTO>> getPopularBlogs(@RequestParam(defaultValue = "10") int limit) {
+        List<ViewCounter.ViewCount> top = viewCounter.top(ViewCounter.Kind.BLOG, Math.min(limit, MAX_RANKED));
+        Map<String, BlogDTO> blogs = blogService.getBlogsBySlugs(top.stream().map(ViewCounter.ViewCount::slug).toList());
+        List<BlogSummaryDTO> popular = top.stream()
+                .filter(count -> blogs.containsKey(count.slug()))
+                .map(count -> {
+                    BlogSummaryDTO summary = DtoConverter.toSummaryDTO(blogs.get(count.slug()));
+                    summary.setViewCount(count.views());
+                    return summary;
+                })
+                .toList();
+        return ResponseEntity.ok(popular);
+    }
+
+    /**
+     * Posts trending now: views with exponential decay ({@code portfolio.trending.half-life}),
+     * most first, with the decayed count as {@code trendingScore}.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<BlogSummaryDTO>> getTrendingBlogs(@RequestParam(defaultValue = "10") int limit) {
+        List<DecayingHeavyHitters.Entry> top = trending.top(ViewCounter.Kind.BLOG, Math.min(limit, MAX_RANKED));
+        Map<String, BlogDTO> blogs = blogService.getBlogsBySlugs(top.stream().map(DecayingHeavyHitters.Entry::key).toList());
+        List<BlogSummaryDTO> trendingBlogs = top.stream()
+                .filter(entry -> blogs.containsKey(entry.key()))
+                .map(entry -> {
+                    BlogSummaryDTO summary = DtoConverter.toSummaryDTO(blogs.get(entry.key()));
+                    summary.setTrendingScore(entry.score());
+                    return summary;
+                })
+                .toList();
+        return ResponseEntity.ok(trendingBlogs);
     }
 
+    @GetMapping("/tags")
+    public ResponseEntity<byte[]> getTagCounts(WebRequest request) {
+        return responses.get(ResponseBodyCache.Group.BLOGS, "tags", request,
+                () -> Optional.of(blogService.getTagCounts()));
+    }
+
+    /**
+     * Several posts in one call, {@code slugs=a,b,c} (up to 50), resolved with one cache pass and
+     * one query for the rest. Items follow the requested order, {@code null} where a slug has no
+     * post; those slugs are also listed in {@code missing}. {@code includeHtml} as for a single post.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<byte[]> getBlogsBySlugs(
+            @RequestParam(required = false) List<String> slugs,
+            @RequestParam(defaultValue = "false") boolean includeHtml,
+            WebRequest request) {
+        List<String> requested = BatchSlugs.parse(slugs);
+        return responses.get(ResponseBodyCache.Group.BLOGS,
+                "batch:" + String.join(",", requested) + ":" + includeHtml, request, () -> {
+                    Map<String, BlogDTO> found = new LinkedHashMap<>();
+                    blogService.getBlogsBySlugs(requested).forEach((slug, blog) ->
+                            found.put(slug, includeHtml ? blog : blog.toBuilder().contentHtml(null).build()));
+                    return Optional.of(BatchResponse.of(requested, found));
+                });
+    }
+
+    /**
+     * A single post with its table of contents and reading stats. The pre-rendered HTML body
+     * is only included with {@code includeHtml=true}, since most clients render the Markdown.
+     */
     @GetMapping("/{slug}")
-    public ResponseEntity<BlogDTO> getBlogBySlug(@PathVariable String slug) {
-        return blogService.getBlogBySlug(slug)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getBlogBySlug(
+            @PathVariable String slug,
+            @RequestParam(defaultValue = "false") boolean includeHtml,
+            WebRequest request) {
+        ResponseEntity<byte[]> response = responses.get(ResponseBodyCache.Group.BLOGS,
+                "slug:" + slug + ":" + includeHtml, request, () -> blogService.getBlogBySlug(slug)
+                        .map(blog -> includeHtml ? blog : blog.toBuilder().contentHtml(null).build()));
+        viewCounter.recordView(ViewCounter.Kind.BLOG, slug, response);
+        trending.recordView(ViewCounter.Kind.BLOG, slug, response, request);
+        return response;
     }
 
+    /**
+     * Blogs and projects most similar to this post, precomputed whenever content changes.
+     */
+    @GetMapping("/{slug}/related")
+    public ResponseEntity<byte[]> getRelated(@PathVariable String slug, WebRequest request) {
+        return responses.get(ResponseBodyCache.Group.BLOGS, "related:" + slug + ":" + relatedService.version(),
+                request, () -> relatedService.getRelatedToBlog(slug));
+    }
 }
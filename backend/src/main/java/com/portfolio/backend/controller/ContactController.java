@@ -1,7 +1,9 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.ratelimit.ContactRateLimiter;
 import com.portfolio.backend.service.ContactService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,9 +15,12 @@ import org.springframework.web.bind.annotation.*;
 public class ContactController {
 
     private final ContactService service;
+    private final ContactRateLimiter rateLimiter;
 
     @PostMapping
-    public ResponseEntity<ContactMessage> submitContactForm(@Valid @RequestBody ContactMessage message) {
+    public ResponseEntity<ContactMessage> submitContactForm(@Valid @RequestBody ContactMessage message,
+                                                            HttpServletRequest request) {
+        rateLimiter.check(request.getRemoteAddr(), message.getEmail());
         ContactMessage saved = service.saveMessage(message);
         return ResponseEntity.ok(saved);
     }
@@ -0,0 +1,46 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.service.ContactExportFormat;
+import com.portfolio.backend.service.ContactExportService;
+import com.portfolio.backend.util.InvalidRequestException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/admin/contact-messages")
+@RequiredArgsConstructor
+public class ContactExportController {
+
+    private final ContactExportService service;
+
+    /**
+     * Stream contact messages created in {@code [from, to)} as NDJSON or ({@code format=csv}) CSV.
+     * Both bounds are optional ISO local date-times. Requires the admin bearer token.
+     */
+    @GetMapping("/export")
+    public void exportMessages(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ContactExportFormat exportFormat = ContactExportFormat.parse(format);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("contact-messages." + exportFormat.extension())
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        service.exportMessages(from, to, exportFormat, response.getOutputStream());
+    }
+}
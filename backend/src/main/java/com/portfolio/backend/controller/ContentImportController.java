@@ -0,0 +1,27 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.content.ContentImporter;
+import com.portfolio.backend.content.ContentSource;
+import com.portfolio.backend.content.ImportResult;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/admin/content")
+@RequiredArgsConstructor
+public class ContentImportController {
+
+    private final ContentImporter importer;
+
+    /**
+     * Import a ZIP archive of Markdown files under {@code blogs/} and {@code projects/}, upserting
+     * by slug. The archive is read as it is uploaded. Requires the admin bearer token.
+     */
+    @PostMapping(value = "/import", consumes = {"application/zip", "application/octet-stream"})
+    public ImportResult importArchive(HttpServletRequest request) throws IOException {
+        return importer.importFrom(ContentSource.zip(request.getInputStream()));
+    }
+}
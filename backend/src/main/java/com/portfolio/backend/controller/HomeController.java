@@ -0,0 +1,28 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.service.HomeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/v1/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeService homeService;
+    private final ResponseBodyCache responses;
+
+    /**
+     * The landing page in one request: the latest blog summaries, featured projects and the tag
+     * counts of both, served from bytes that are only rebuilt after content changes.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getHome(WebRequest request) {
+        return responses.respond(homeService.getRenderedHome(), request);
+    }
+}
@@ -1,31 +1,118 @@
 package com.portfolio.backend.controller;
 
-import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.dto.BatchResponse;
 import com.portfolio.backend.dto.ProjectDTO;
 import com.portfolio.backend.service.ProjectService;
+import com.portfolio.backend.service.RelatedContentService;
+import com.portfolio.backend.util.BatchSlugs;
+import com.portfolio.backend.util.InvalidRequestException;
+import com.portfolio.backend.util.PageParams;
+import com.portfolio.backend.views.DecayingHeavyHitters;
+import com.portfolio.backend.views.TrendingContent;
+import com.portfolio.backend.views.ViewCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/projects")
 @RequiredArgsConstructor
 public class ProjectController {
 
+    private static final int MAX_RANKED = 50;
+
     private final ProjectService service;
+    private final RelatedContentService relatedService;
+    private final ResponseBodyCache responses;
+    private final ViewCounter viewCounter;
+    private final TrendingContent trending;
 
+    /**
+     * List projects by offset, or by keyset when {@code cursor} is present (empty for the first page).
+     * One or more {@code tag} parameters restrict the offset listing to projects using all of them;
+     * tag filtering pages by offset only, so {@code tag} together with {@code cursor} is a 400.
+     * {@code size} is capped at {@link PageParams#MAX_SIZE}; a size below one or a negative page is a 400.
+     */
     @GetMapping
-    public ResponseEntity<PagedResponse<ProjectDTO>> getProjects(
+    public ResponseEntity<byte[]> getProjects(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(service.getAllProjects(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) List<String> tag,
+            WebRequest request) {
+        int pageNumber = PageParams.page(page);
+        int pageSize = PageParams.size(size);
+        if (tag != null && !tag.isEmpty() && cursor != null) {
+            throw new InvalidRequestException("'tag' cannot be combined with 'cursor'; page tag filters with 'page'");
+        }
+        if (tag != null && !tag.isEmpty()) {
+            return responses.get(ResponseBodyCache.Group.PROJECTS,
+                    "tag:" + tag + ":" + pageNumber + ":" + pageSize, request,
+                    () -> Optional.of(service.getProjectsByTags(tag, pageNumber, pageSize)));
+        }
+        if (cursor != null) {
+            return responses.get(ResponseBodyCache.Group.PROJECTS,
+                    "cursor:" + cursor + ":" + pageSize + ":" + includeTotal, request,
+                    () -> Optional.of(service.getProjectsAfter(cursor, pageSize, includeTotal)));
+        }
+        return responses.get(ResponseBodyCache.Group.PROJECTS, "page:" + pageNumber + ":" + pageSize, request,
+                () -> Optional.of(service.getAllProjects(pageNumber, pageSize)));
+    }
+
+    /**
+     * Projects trending now, ranked like the blog trending endpoint.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<ProjectDTO>> getTrendingProjects(@RequestParam(defaultValue = "10") int limit) {
+        List<DecayingHeavyHitters.Entry> top = trending.top(ViewCounter.Kind.PROJECT, Math.min(limit, MAX_RANKED));
+        Map<String, ProjectDTO> projects = service.getProjectsBySlugs(top.stream().map(DecayingHeavyHitters.Entry::key).toList());
+        List<ProjectDTO> trendingProjects = top.stream()
+                .filter(entry -> projects.containsKey(entry.key()))
+                // The DTOs are shared with the cache, so the score goes on a copy
+                .map(entry -> projects.get(entry.key()).toBuilder().trendingScore(entry.score()).build())
+                .toList();
+        return ResponseEntity.ok(trendingProjects);
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<byte[]> getTagCounts(WebRequest request) {
+        return responses.get(ResponseBodyCache.Group.PROJECTS, "tags", request,
+                () -> Optional.of(service.getTagCounts()));
+    }
+
+    /**
+     * Several projects in one call, {@code slugs=a,b,c} (up to 50); see the blog batch endpoint.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<byte[]> getProjectsBySlugs(@RequestParam(required = false) List<String> slugs,
+                                                     WebRequest request) {
+        List<String> requested = BatchSlugs.parse(slugs);
+        return responses.get(ResponseBodyCache.Group.PROJECTS, "batch:" + String.join(",", requested), request,
+                () -> Optional.of(BatchResponse.of(requested, service.getProjectsBySlugs(requested))));
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<ProjectDTO> getProjectBySlug(@PathVariable String slug) {
-        return service.getProjectBySlug(slug)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getProjectBySlug(@PathVariable String slug, WebRequest request) {
+        ResponseEntity<byte[]> response = responses.get(ResponseBodyCache.Group.PROJECTS, "slug:" + slug, request,
+                () -> service.getProjectBySlug(slug));
+        viewCounter.recordView(ViewCounter.Kind.PROJECT, slug, response);
+        trending.recordView(ViewCounter.Kind.PROJECT, slug, response, request);
+        return response;
     }
 
+    /**
+     * Projects and blogs most similar to this project, precomputed whenever content changes.
+     */
+    @GetMapping("/{slug}/related")
+    public ResponseEntity<byte[]> getRelated(@PathVariable String slug, WebRequest request) {
+        return responses.get(ResponseBodyCache.Group.PROJECTS, "related:" + slug + ":" + relatedService.version(),
+                request, () -> relatedService.getRelatedToProject(slug));
+    }
 }
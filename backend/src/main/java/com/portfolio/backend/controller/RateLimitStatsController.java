@@ -0,0 +1,28 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.ratelimit.ContactRateLimiter;
+import com.portfolio.backend.ratelimit.RateLimiterStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/rate-limits")
+@RequiredArgsConstructor
+public class RateLimitStatsController {
+
+    private static final int MAX_TOP = 50;
+
+    private final ContactRateLimiter contactRateLimiter;
+
+    /**
+     * Totals for each contact limiter and its {@code top} most rejected keys, which are too many
+     * and too short-lived to publish as metric tags. Requires the admin bearer token.
+     */
+    @GetMapping
+    public ResponseEntity<List<RateLimiterStats>> getRateLimitStats(@RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(contactRateLimiter.stats(Math.max(0, Math.min(top, MAX_TOP))));
+    }
+}
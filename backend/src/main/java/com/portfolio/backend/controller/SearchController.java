@@ -0,0 +1,35 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.service.SearchService;
+import com.portfolio.backend.util.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchService service;
+
+    /**
+     * Full-text search over blogs and projects, optionally restricted with {@code type=blog|project}.
+     * A missing or blank {@code q} is a {@code 400}.
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q must not be blank");
+        }
+        return ResponseEntity.ok(service.search(query, type, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.dto.TrendingReferrerDTO;
+import com.portfolio.backend.views.TrendingContent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/trending")
+@RequiredArgsConstructor
+public class TrendingReferrerController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final TrendingContent trending;
+
+    /**
+     * Sites currently sending readers to posts and projects, by decayed view count. Requires the
+     * admin bearer token.
+     */
+    @GetMapping("/referrers")
+    public ResponseEntity<List<TrendingReferrerDTO>> getTrendingReferrers(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trending.topReferrers(Math.min(limit, MAX_LIMIT)).stream()
+                .map(entry -> new TrendingReferrerDTO(entry.key(), entry.score()))
+                .toList());
+    }
+}
@@ -0,0 +1,122 @@
+package com.portfolio.backend.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else to the
+ * primary pool. It decides when the connection is requested, so it sits behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers that
+ * until the transaction's read-only flag is set.
+ * <p>
+ * Reads go to the primary instead when the replica refuses a connection (then the replica is
+ * skipped for {@code retryInterval} before it is tried again), and for
+ * {@code readAfterWriteWindow} after content changes, so caches that reload right after a
+ * write do not pick up a lagging replica's old rows.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryIntervalNanos;
+    private final long readAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private volatile long replicaDownUntil;
+    private volatile long primaryPinnedUntil;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        Duration retryInterval, Duration readAfterWriteWindow) {
+        this(primary, replica, retryInterval, readAfterWriteWindow, System::nanoTime);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration retryInterval,
+                                 Duration readAfterWriteWindow, LongSupplier ticker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.readAfterWriteNanos = readAfterWriteWindow.toNanos();
+        this.ticker = ticker;
+        long now = ticker.getAsLong();
+        this.replicaDownUntil = now;
+        this.primaryPinnedUntil = now;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        long now = ticker.getAsLong();
+        if (now - primaryPinnedUntil < 0) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        if (now - replicaDownUntil < 0) {
+            fallbackReads.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            replicaDownUntil = ticker.getAsLong() + retryIntervalNanos;
+            log.warn("Read replica unavailable, reading from the primary for {}s: {}",
+                    Duration.ofNanos(retryIntervalNanos).toSeconds(), e.getMessage());
+            fallbackReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Credentials are configured per pool");
+    }
+
+    /**
+     * Keep reads on the primary for the read-after-write window. Runs before the cache
+     * listeners, so nothing evicted by the same change can be reloaded from the replica.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onContentChanged(ContentChangedEvent event) {
+        primaryPinnedUntil = ticker.getAsLong() + readAfterWriteNanos;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindReads(registry, "replica", "read_only", replicaReads);
+        bindReads(registry, "primary", "replica_unavailable", fallbackReads);
+        bindReads(registry, "primary", "read_after_write", pinnedReads);
+    }
+
+    private void bindReads(MeterRegistry registry, String target, String reason, LongAdder count) {
+        FunctionCounter.builder("portfolio.datasource.reads", count, LongAdder::sum)
+                .tags("target", target, "reason", reason)
+                .register(registry);
+    }
+}
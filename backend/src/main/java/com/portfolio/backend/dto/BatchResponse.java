@@ -0,0 +1,36 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a multi-get by slug. {@code items} follows the order of the requested slugs, with
+ * {@code null} in the place of each slug that does not exist; {@code missing} lists those slugs.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    private List<T> items;
+    private List<String> missing;
+
+    public static <T> BatchResponse<T> of(List<String> slugs, Map<String, T> found) {
+        List<T> items = new ArrayList<>(slugs.size());
+        List<String> missing = new ArrayList<>();
+        for (String slug : slugs) {
+            T item = found.get(slug);
+            items.add(item);
+            if (item == null) {
+                missing.add(slug);
+            }
+        }
+        return new BatchResponse<>(items, missing);
+    }
+}
@@ -1,5 +1,7 @@
 package com.portfolio.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.portfolio.backend.model.TocEntry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BlogDTO {
@@ -20,4 +22,12 @@ public class BlogDTO {
     private List<String> tags;
     private String imageUrl;
     private LocalDateTime publishedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contentHtml;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TocEntry> toc;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer wordCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer readingTimeMinutes;
 }
@@ -0,0 +1,31 @@
+package com.portfolio.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSummaryDTO {
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private List<String> tags;
+    private String imageUrl;
+    private LocalDateTime publishedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer readingTimeMinutes;
+    // Only set by /api/v1/blogs/popular
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewCount;
+    // Only set by /api/v1/blogs/trending
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double trendingScore;
+}
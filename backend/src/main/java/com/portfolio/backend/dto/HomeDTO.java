@@ -0,0 +1,21 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Everything the landing page needs in one response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeDTO {
+    private List<BlogSummaryDTO> latestBlogs;
+    private List<ProjectDTO> featuredProjects;
+    private List<TagCountDTO> blogTags;
+    private List<TagCountDTO> projectTags;
+}
@@ -1,19 +1,26 @@
 package com.portfolio.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.util.List;
 
+/**
+ * A page of results. Offset pages fill {@code page}/{@code totalPages}; cursor pages fill
+ * {@code nextCursor} and only carry {@code total} when the caller asked for it.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse<T> {
     private List<T> items;
-    private long total;
-    private int page;
+    private Long total;
+    private Integer page;
     private int size;
-    private int totalPages;
+    private Integer totalPages;
+    private String nextCursor;
 }
@@ -1,5 +1,6 @@
 package com.portfolio.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectDTO {
@@ -19,4 +20,8 @@ public class ProjectDTO {
     private String githubUrl;
     private String liveDemoUrl;
     private String imageUrl;
+    private boolean featured;
+    // Only set by /api/v1/projects/trending
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double trendingScore;
 }
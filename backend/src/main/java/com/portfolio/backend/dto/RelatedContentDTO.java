@@ -0,0 +1,17 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedContentDTO {
+    private List<SearchResultDTO> blogs;
+    private List<SearchResultDTO> projects;
+}
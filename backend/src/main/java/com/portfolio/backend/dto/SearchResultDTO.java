@@ -0,0 +1,19 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String type;
+    private Long id;
+    private String slug;
+    private String title;
+    private String summary;
+    private double score;
+}
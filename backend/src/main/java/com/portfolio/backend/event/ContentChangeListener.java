@@ -0,0 +1,30 @@
+package com.portfolio.backend.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns entity lifecycle callbacks into {@link ContentChangedEvent}s.
+ * Instantiated by Hibernate through Spring's bean container, so constructor injection works.
+ */
+public class ContentChangeListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public ContentChangeListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publisher.publishEvent(new ContentChangedEvent(entity, ContentChangedEvent.Action.SAVED));
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        publisher.publishEvent(new ContentChangedEvent(entity, ContentChangedEvent.Action.DELETED));
+    }
+}
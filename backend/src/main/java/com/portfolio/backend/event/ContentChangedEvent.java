@@ -0,0 +1,24 @@
+package com.portfolio.backend.event;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+
+/**
+ * Published whenever a {@link Blog} or {@link Project} row is inserted, updated or deleted.
+ * Read-side structures (caches, indexes) listen for it to stay in sync with the database.
+ */
+public record ContentChangedEvent(Object entity, Action action) {
+
+    public enum Action {
+        SAVED,
+        DELETED
+    }
+
+    public boolean isBlog() {
+        return entity instanceof Blog;
+    }
+
+    public boolean isProject() {
+        return entity instanceof Project;
+    }
+}
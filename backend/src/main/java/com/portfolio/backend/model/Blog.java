@@ -1,10 +1,14 @@
 package com.portfolio.backend.model;
 
+import com.portfolio.backend.event.ContentChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
+@EntityListeners({BlogRenderingListener.class, ContentChangeListener.class})
 @Data
 public class Blog {
     @Id
@@ -19,6 +23,18 @@ public class Blog {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Derived from content by BlogRenderingListener on every write
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String contentHtml;
+
+    @Convert(converter = TocConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<TocEntry> toc;
+
+    private Integer wordCount;
+
+    private Integer readingTimeMinutes;
+
     @Column(length = 500)
     private String excerpt;
 
@@ -28,6 +44,15 @@ public class Blog {
 
     private LocalDateTime publishedAt;
 
+    // SHA-256 of the content file this row was imported from; see ContentImporter
+    @Column(length = 64)
+    private String contentHash;
+
+    // Maintained only by ViewCounter's batched increments, never written through JPA
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
     @PrePersist
     protected void onCreate() {
         publishedAt = LocalDateTime.now();
@@ -0,0 +1,26 @@
+package com.portfolio.backend.model;
+
+import com.portfolio.backend.util.MarkdownRenderer;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Pre-renders a blog's Markdown whenever it is inserted or updated, so readers get HTML,
+ * a table of contents and reading stats without parsing Markdown on every view.
+ */
+public class BlogRenderingListener {
+
+    @PrePersist
+    @PreUpdate
+    public void render(Blog blog) {
+        apply(blog);
+    }
+
+    public static void apply(Blog blog) {
+        MarkdownRenderer.Rendered rendered = MarkdownRenderer.render(blog.getContent());
+        blog.setContentHtml(rendered.html());
+        blog.setToc(rendered.toc());
+        blog.setWordCount(rendered.wordCount());
+        blog.setReadingTimeMinutes(rendered.readingTimeMinutes());
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,7 +11,10 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contact_messages")
+@Table(name = "contact_messages",
+        indexes = @Index(name = "idx_contact_messages_created_at", columnList = "createdAt"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_contact_messages_fingerprint",
+                columnNames = {"fingerprint", "dedup_window"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +41,15 @@ public class ContactMessage {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Content fingerprint and dedup window number, see ContactDeduplicator
+    @JsonIgnore
+    @Column(length = 64, updatable = false)
+    private String fingerprint;
+
+    @JsonIgnore
+    @Column(name = "dedup_window", updatable = false)
+    private Long dedupWindow;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -1,11 +1,14 @@
 package com.portfolio.backend.model;
 
+import com.portfolio.backend.event.ContentChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
+@EntityListeners(ContentChangeListener.class)
 @Table(name = "projects")
 @Data
 @NoArgsConstructor
@@ -29,4 +32,16 @@ public class Project {
     private String githubUrl;
     private String liveDemoUrl;
     private String imageUrl;
+
+    // Featured projects lead the homepage's project list
+    private boolean featured;
+
+    // SHA-256 of the content file this row was imported from; see ContentImporter
+    @Column(length = 64)
+    private String contentHash;
+
+    // Maintained only by ViewCounter's batched increments, never written through JPA
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
 }
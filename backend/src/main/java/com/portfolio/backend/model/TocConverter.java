@@ -0,0 +1,40 @@
+package com.portfolio.backend.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * Stores a table of contents as a JSON array in a single text column.
+ */
+@Converter
+public class TocConverter implements AttributeConverter<List<TocEntry>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<TocEntry>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<TocEntry> toc) {
+        if (toc == null) return null;
+        try {
+            return MAPPER.writeValueAsString(toc);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode table of contents", e);
+        }
+    }
+
+    @Override
+    public List<TocEntry> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) return null;
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode table of contents", e);
+        }
+    }
+}
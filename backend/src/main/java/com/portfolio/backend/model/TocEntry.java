@@ -0,0 +1,8 @@
+package com.portfolio.backend.model;
+
+/**
+ * One heading of a rendered blog post: its level (1-6), text and the {@code id} anchor
+ * assigned to it in the rendered HTML.
+ */
+public record TocEntry(int level, String text, String anchor) {
+}
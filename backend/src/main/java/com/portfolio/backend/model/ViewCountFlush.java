@@ -0,0 +1,24 @@
+package com.portfolio.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Marks a batch of view count increments as applied. Written in the same transaction as the
+ * increments, so a batch retried after an ambiguous commit is recognised and not counted twice.
+ */
+@Entity
+@Table(name = "view_count_flushes", indexes = @Index(name = "idx_view_count_flushes_flushed_at", columnList = "flushedAt"))
+@Data
+@NoArgsConstructor
+public class ViewCountFlush {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -0,0 +1,91 @@
+package com.portfolio.backend.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.portfolio.backend.cache.BoundedCache;
+import com.portfolio.backend.cache.CacheStats;
+
+/**
+ * Recognizes repeated contact submissions, such as double clicks, resubmits and bots replaying
+ * one payload, by a fingerprint of the normalized sender email and message.
+ * <p>
+ * Fingerprints seen in the last {@code window} are kept in a bounded in-memory set, which
+ * answers the common case without touching the database. Stored messages also carry their
+ * fingerprint and the number of the window they fall in, under a unique index, which catches
+ * repeats that reach another instance or arrive after a restart.
+ */
+@Component
+public class ContactDeduplicator {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final BoundedCache<String, Long> recent;
+
+    public ContactDeduplicator(
+            @Value("${portfolio.contact.dedup.enabled:true}") boolean enabled,
+            @Value("${portfolio.contact.dedup.window:10m}") Duration window,
+            @Value("${portfolio.contact.dedup.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.recent = new BoundedCache<>("contact.dedup", maxEntries, window);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Id of the message with this fingerprint accepted within the window, or null.
+     */
+    public Long recentMessageId(String fingerprint) {
+        return recent.getIfPresent(fingerprint);
+    }
+
+    public void remember(String fingerprint, Long messageId) {
+        recent.put(fingerprint, messageId);
+    }
+
+    /**
+     * Number of the fixed window {@code epochMillis} falls in, stored next to the fingerprint.
+     */
+    public long window(long epochMillis) {
+        return Math.floorDiv(epochMillis, windowMillis);
+    }
+
+    public CacheStats stats() {
+        return recent.stats();
+    }
+
+    /**
+     * SHA-256 of the email (trimmed, lower case) and the message (Unicode-normalized, lower
+     * case, whitespace runs collapsed), so trivial edits do not make a repeat look new.
+     */
+    public static String fingerprint(String email, String message) {
+        String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+        String normalizedMessage = WHITESPACE.matcher(Normalizer.normalize(message, Normalizer.Form.NFKC))
+                .replaceAll(" ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalizedEmail.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizedMessage.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.backend.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Throttles contact form submissions per client IP and per sender email, so one client cannot
+ * flood the database or the Resend quota by rotating either. Emails are kept only as a
+ * truncated SHA-256 hash.
+ */
+@Component
+@Slf4j
+public class ContactRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter byIp;
+    private final TokenBucketRateLimiter byEmail;
+
+    public ContactRateLimiter(
+            @Value("${portfolio.contact.rate-limit.enabled:true}") boolean enabled,
+            @Value("${portfolio.contact.rate-limit.capacity:5}") int capacity,
+            @Value("${portfolio.contact.rate-limit.refill-interval:2m}") Duration refillInterval,
+            @Value("${portfolio.contact.rate-limit.max-keys:10000}") int maxKeys) {
+        this.enabled = enabled;
+        this.byIp = new TokenBucketRateLimiter("contact.ip", capacity, refillInterval, maxKeys);
+        this.byEmail = new TokenBucketRateLimiter("contact.email", capacity, refillInterval, maxKeys);
+    }
+
+    /**
+     * Take one submission from both the IP and the email budget.
+     *
+     * @throws RateLimitExceededException if either budget is exhausted
+     */
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        reject("ip", byIp.tryAcquire(clientIp));
+        if (email != null) {
+            reject("email", byEmail.tryAcquire(hash(email)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.contact.rate-limit.eviction-interval:1m}")
+    public void evictIdle() {
+        byIp.evictIdle();
+        byEmail.evictIdle();
+    }
+
+    /**
+     * Counters for the IP and email limiters, each with its {@code topKeys} most rejected keys.
+     */
+    public List<RateLimiterStats> stats(int topKeys) {
+        return List.of(byIp.stats(topKeys), byEmail.stats(topKeys));
+    }
+
+    private static void reject(String keyType, TokenBucketRateLimiter.Decision decision) {
+        if (!decision.allowed()) {
+            log.warn("Contact submission rate limited by {}, retry after {}s", keyType, decision.retryAfterSeconds());
+            throw new RateLimitExceededException("Too many messages. Please try again later.",
+                    decision.retryAfterSeconds());
+        }
+    }
+
+    static String hash(String email) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.backend.ratelimit;
+
+/**
+ * Thrown when a client has used up its request budget; answered with 429 and {@code Retry-After}.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
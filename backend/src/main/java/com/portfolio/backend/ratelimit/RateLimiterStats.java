@@ -0,0 +1,23 @@
+package com.portfolio.backend.ratelimit;
+
+import java.util.List;
+
+/**
+ * Point-in-time snapshot of a {@link TokenBucketRateLimiter}'s counters.
+ *
+ * @param trackedKeys buckets currently held in memory
+ * @param overflow    requests from new keys that arrived while the limiter was at {@code maxKeys}
+ * @param topRejected the keys rejected most often, busiest first
+ */
+public record RateLimiterStats(
+        String name,
+        int trackedKeys,
+        long allowed,
+        long rejected,
+        long evictions,
+        KeyStats overflow,
+        List<KeyStats> topRejected) {
+
+    public record KeyStats(String key, long allowed, long rejected) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.portfolio.backend.ratelimit;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed token-bucket limiter: each key may burst {@code capacity} requests and then gets one
+ * more every {@code refillInterval}.
+ * <p>
+ * A bucket's state is a single timestamp, the moment it will be full again (GCRA), updated with
+ * a CAS, so acquiring never takes a lock; the {@link ConcurrentHashMap} spreads keys across its
+ * own bins. A bucket that has refilled completely is indistinguishable from a new one and is
+ * dropped by {@link #evictIdle()}, which runs on a schedule and, once {@code maxKeys} buckets are
+ * live, inline at most once per {@code refillInterval}, so a flood of new keys does not scan the
+ * map on every request. While the limiter is full, further new keys share one overflow bucket:
+ * memory stays bounded, at the cost of those keys throttling each other to {@code capacity}
+ * requests between them until a sweep frees room.
+ */
+public class TokenBucketRateLimiter {
+
+    static final String OVERFLOW_KEY = "<overflow>";
+
+    private final String name;
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final int maxKeys;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow;
+    private final AtomicLong nextInlineSweep;
+
+    // Limiter-wide totals; the per-bucket counts go away with their bucket and only rank keys
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TokenBucketRateLimiter(String name, int capacity, Duration refillInterval, int maxKeys) {
+        this(name, capacity, refillInterval, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(String name, int capacity, Duration refillInterval, int maxKeys, LongSupplier ticker) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive: " + maxKeys);
+        }
+        this.name = name;
+        this.intervalNanos = refillInterval.toNanos();
+        this.capacityNanos = intervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.ticker = ticker;
+        this.overflow = new Bucket(OVERFLOW_KEY);
+        this.nextInlineSweep = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * Take one token for {@code key}.
+     */
+    public Decision tryAcquire(String key) {
+        long now = ticker.getAsLong();
+        Decision decision = bucketFor(key, now).tryAcquire(now);
+        (decision.allowed() ? allowed : rejected).increment();
+        return decision;
+    }
+
+    /**
+     * Drop buckets that have refilled completely. Racing with an acquire on the same key can at
+     * worst forget that one token, which the next request then gets for free.
+     */
+    public void evictIdle() {
+        long now = ticker.getAsLong();
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            if (entry.getValue().isFull(now) && buckets.remove(entry.getKey(), entry.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Counters for the whole limiter plus the {@code topKeys} keys with the most rejections.
+     * Pass zero to skip ranking the keys. The totals only ever grow; the per-key counts cover
+     * the current lifetime of each live bucket.
+     */
+    public RateLimiterStats stats(int topKeys) {
+        List<RateLimiterStats.KeyStats> top = topKeys == 0 ? List.of() : buckets.values().stream()
+                .filter(bucket -> bucket.rejected.get() > 0)
+                .sorted(Comparator.comparingLong((Bucket bucket) -> bucket.rejected.get()).reversed())
+                .limit(topKeys)
+                .map(Bucket::stats)
+                .toList();
+        return new RateLimiterStats(name, buckets.size(), allowed.sum(), rejected.sum(), evictions.sum(),
+                overflow.stats(), top);
+    }
+
+    private Bucket bucketFor(String key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            long due = nextInlineSweep.get();
+            if (now - due >= 0 && nextInlineSweep.compareAndSet(due, now + intervalNanos)) {
+                evictIdle();
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, Bucket::new);
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire}; {@code retryAfterNanos} is zero when allowed.
+     */
+    public record Decision(boolean allowed, long retryAfterNanos) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        public Duration retryAfter() {
+            return Duration.ofNanos(retryAfterNanos);
+        }
+
+        /**
+         * Whole seconds to wait, rounded up, as sent in a {@code Retry-After} header.
+         */
+        public long retryAfterSeconds() {
+            return (retryAfterNanos + 999_999_999L) / 1_000_000_000L;
+        }
+    }
+
+    private final class Bucket {
+
+        private final String key;
+        /** Time at which the bucket is full again; at or before {@code now} means full. */
+        private final AtomicLong fullAt;
+        private final AtomicLong allowed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        Bucket(String key) {
+            this.key = key;
+            this.fullAt = new AtomicLong(ticker.getAsLong());
+        }
+
+        Decision tryAcquire(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long base = Math.max(current, now);
+                long next = base + intervalNanos;
+                long waitNanos = next - now - capacityNanos;
+                if (waitNanos > 0) {
+                    rejected.incrementAndGet();
+                    return new Decision(false, waitNanos);
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    allowed.incrementAndGet();
+                    return Decision.ALLOWED;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return fullAt.get() - now <= 0;
+        }
+
+        RateLimiterStats.KeyStats stats() {
+            return new RateLimiterStats.KeyStats(key, allowed.get(), rejected.get());
+        }
+    }
+}
@@ -1,9 +1,27 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.model.Blog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BlogRepository extends JpaRepository<Blog, Long> {
     Optional<Blog> findBySlug(String slug);
+
+    List<Blog> findBySlugIn(Collection<String> slugs);
+
+    Page<BlogSummaryView> findAllProjectedBy(Pageable pageable);
+
+    Window<BlogSummaryView> findAllProjectedBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Page<BlogSummaryView> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    List<Blog> findByContentIsNotNullAndContentHtmlIsNull();
 }
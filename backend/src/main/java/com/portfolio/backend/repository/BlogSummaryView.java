@@ -0,0 +1,18 @@
+package com.portfolio.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection over {@link com.portfolio.backend.model.Blog} used by list queries.
+ * Only these columns are selected, so the TEXT {@code content} column is never read.
+ */
+public interface BlogSummaryView {
+    Long getId();
+    String getTitle();
+    String getSlug();
+    String getExcerpt();
+    String getTags();
+    String getImageUrl();
+    LocalDateTime getPublishedAt();
+    Integer getReadingTimeMinutes();
+}
@@ -4,6 +4,9 @@ import com.portfolio.backend.model.ContactMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
+    Optional<ContactMessage> findByFingerprintAndDedupWindow(String fingerprint, Long dedupWindow);
 }
@@ -0,0 +1,17 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.model.EmailOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            EmailOutbox.Status status, LocalDateTime now, Limit limit);
+
+    long countByStatus(EmailOutbox.Status status);
+}
@@ -1,11 +1,27 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.model.Project;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findBySlug(String slug);
+
+    List<Project> findBySlugIn(Collection<String> slugs);
+
+    Window<Project> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Page<Project> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    List<Project> findAllByOrderByFeaturedDescIdAsc(Limit limit);
 }
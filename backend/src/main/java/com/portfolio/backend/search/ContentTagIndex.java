@@ -0,0 +1,73 @@
+package com.portfolio.backend.search;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.util.DtoConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps a {@link TagIndex} for blog tags and one for project tech stacks in step with the
+ * database. Built when the application is ready, then updated from {@link ContentChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentTagIndex {
+
+    private final BlogRepository blogRepository;
+    private final ProjectRepository projectRepository;
+    private final TagIndex blogTags = new TagIndex();
+    private final TagIndex projectTags = new TagIndex();
+
+    public TagIndex blogs() {
+        return blogTags;
+    }
+
+    public TagIndex projects() {
+        return projectTags;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        blogTags.clear();
+        projectTags.clear();
+        blogRepository.findAll().forEach(this::index);
+        projectRepository.findAll().forEach(this::index);
+    }
+
+    // Runs before the DTO caches are invalidated so a reload never sees stale tags
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onContentChanged(ContentChangedEvent event) {
+        boolean deleted = event.action() == ContentChangedEvent.Action.DELETED;
+        if (event.entity() instanceof Blog blog) {
+            if (deleted) {
+                blogTags.remove(blog.getId());
+            } else {
+                index(blog);
+            }
+        } else if (event.entity() instanceof Project project) {
+            if (deleted) {
+                projectTags.remove(project.getId());
+            } else {
+                index(project);
+            }
+        }
+    }
+
+    private void index(Blog blog) {
+        blogTags.put(blog.getId(), DtoConverter.splitCommaSeparated(blog.getTags()));
+    }
+
+    private void index(Project project) {
+        projectTags.put(project.getId(), DtoConverter.splitCommaSeparated(project.getTechStack()));
+    }
+}
@@ -0,0 +1,197 @@
+package com.portfolio.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Precomputed "related content" lists: for every blog and project, the {@code topK} most
+ * similar blogs and the {@code topK} most similar projects by TF-IDF cosine similarity over
+ * title, tags (tech stack for projects), summary and body.
+ * <p>
+ * Documents are tokenized once, when added or changed; the lists are then recomputed from the
+ * stored term counts, since a new document shifts the IDF weights of every other one. Changes
+ * only mark the lists stale and the next read recomputes them, so a burst of changes (a bulk
+ * import) costs one recomputation. Scoring walks postings, so the cost grows with shared terms
+ * rather than with all pairs. The lists are published as one immutable snapshot, which makes
+ * {@link #get} a pair of map lookups while nothing has changed.
+ */
+public class RelatedContentIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    static final int TAG_WEIGHT = 3;
+    static final int SUMMARY_WEIGHT = 1;
+    static final int BODY_WEIGHT = 1;
+
+    private final int topK;
+    private final Map<Key, Doc> docs = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0);
+    private volatile boolean stale;
+
+    public RelatedContentIndex(int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("topK must be positive: " + topK);
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * Most similar blogs and projects for the document with this type and slug, or null if
+     * there is none.
+     */
+    public Related get(SearchDocument.Type type, String slug) {
+        Map<String, Related> bySlug = current().related().get(type);
+        return bySlug == null ? null : bySlug.get(slug);
+    }
+
+    /**
+     * Incremented on every change, so callers can tell results computed before and after it.
+     */
+    public long version() {
+        return current().version();
+    }
+
+    public synchronized void upsert(SearchDocument document) {
+        docs.put(new Key(document.type(), document.entityId()), Doc.of(document));
+        stale = true;
+    }
+
+    public synchronized void remove(SearchDocument.Type type, Long entityId) {
+        if (docs.remove(new Key(type, entityId)) != null) {
+            stale = true;
+        }
+    }
+
+    public synchronized void rebuild(Collection<SearchDocument> documents) {
+        docs.clear();
+        for (SearchDocument document : documents) {
+            docs.put(new Key(document.type(), document.entityId()), Doc.of(document));
+        }
+        recompute();
+    }
+
+    public int size() {
+        return current().related().values().stream().mapToInt(Map::size).sum();
+    }
+
+    private Snapshot current() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    recompute();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private void recompute() {
+        List<Doc> all = new ArrayList<>(docs.values());
+        int n = all.size();
+
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Doc doc : all) {
+            doc.termCounts().keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+
+        // Unit-length TF-IDF vectors, stored as postings: term -> (doc index, weight)
+        Map<String, List<Posting>> postings = new HashMap<>();
+        List<Map<String, Double>> vectors = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Map<String, Double> vector = new HashMap<>();
+            double norm = 0;
+            for (Map.Entry<String, Integer> term : all.get(i).termCounts().entrySet()) {
+                double idf = Math.log((1.0 + n) / (1.0 + documentFrequency.get(term.getKey()))) + 1;
+                double weight = (1 + Math.log(term.getValue())) * idf;
+                vector.put(term.getKey(), weight);
+                norm += weight * weight;
+            }
+            double length = norm > 0 ? Math.sqrt(norm) : 1;
+            for (Map.Entry<String, Double> term : vector.entrySet()) {
+                term.setValue(term.getValue() / length);
+                postings.computeIfAbsent(term.getKey(), t -> new ArrayList<>()).add(new Posting(i, term.getValue()));
+            }
+            vectors.add(vector);
+        }
+
+        Map<SearchDocument.Type, Map<String, Related>> related = new EnumMap<>(SearchDocument.Type.class);
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(scores, 0);
+            for (Map.Entry<String, Double> term : vectors.get(i).entrySet()) {
+                for (Posting posting : postings.get(term.getKey())) {
+                    scores[posting.doc()] += term.getValue() * posting.weight();
+                }
+            }
+            scores[i] = 0;
+            Doc doc = all.get(i);
+            related.computeIfAbsent(doc.type(), t -> new HashMap<>()).put(doc.slug(), new Related(
+                    top(all, scores, SearchDocument.Type.BLOG),
+                    top(all, scores, SearchDocument.Type.PROJECT)));
+        }
+        snapshot = new Snapshot(related, snapshot.version() + 1);
+        stale = false;
+    }
+
+    private List<SearchHit> top(List<Doc> all, double[] scores, SearchDocument.Type type) {
+        PriorityQueue<Integer> best = new PriorityQueue<>(Comparator.comparingDouble(i -> scores[i]));
+        for (int j = 0; j < scores.length; j++) {
+            if (scores[j] > 0 && all.get(j).type() == type) {
+                best.add(j);
+                if (best.size() > topK) {
+                    best.poll();
+                }
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int j = best.poll();
+            Doc doc = all.get(j);
+            hits.add(new SearchHit(doc.type(), doc.entityId(), doc.slug(), doc.title(), doc.summary(), scores[j]));
+        }
+        Collections.reverse(hits);
+        return List.copyOf(hits);
+    }
+
+    /**
+     * The related lists of one document, best match first.
+     */
+    public record Related(List<SearchHit> blogs, List<SearchHit> projects) {
+    }
+
+    private record Snapshot(Map<SearchDocument.Type, Map<String, Related>> related, long version) {
+    }
+
+    private record Key(SearchDocument.Type type, Long entityId) {
+    }
+
+    private record Posting(int doc, double weight) {
+    }
+
+    private record Doc(SearchDocument.Type type, Long entityId, String slug, String title, String summary,
+                       Map<String, Integer> termCounts) {
+
+        static Doc of(SearchDocument document) {
+            Map<String, Integer> counts = new HashMap<>();
+            addTerms(counts, document.title(), TITLE_WEIGHT);
+            addTerms(counts, document.tags(), TAG_WEIGHT);
+            addTerms(counts, document.summary(), SUMMARY_WEIGHT);
+            addTerms(counts, document.body(), BODY_WEIGHT);
+            return new Doc(document.type(), document.entityId(), document.slug(), document.title(),
+                    document.summary(), counts);
+        }
+
+        private static void addTerms(Map<String, Integer> counts, String text, int weight) {
+            for (String token : Tokenizer.tokenize(text)) {
+                counts.merge(token, weight, Integer::sum);
+            }
+        }
+    }
+}
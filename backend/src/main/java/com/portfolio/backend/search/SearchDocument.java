@@ -0,0 +1,20 @@
+package com.portfolio.backend.search;
+
+/**
+ * The text of one blog or project as seen by the {@link SearchIndex}. Fields are weighted
+ * differently when scored: title above tags, tags above body text.
+ */
+public record SearchDocument(
+        Type type,
+        Long entityId,
+        String slug,
+        String title,
+        String summary,
+        String tags,
+        String body) {
+
+    public enum Type {
+        BLOG,
+        PROJECT
+    }
+}
@@ -0,0 +1,8 @@
+package com.portfolio.backend.search;
+
+/**
+ * A ranked match returned by {@link SearchIndex#search}.
+ */
+public record SearchHit(SearchDocument.Type type, Long entityId, String slug, String title, String summary,
+                        double score) {
+}
@@ -0,0 +1,262 @@
+package com.portfolio.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index ranked with BM25.
+ * <p>
+ * Each term maps to a postings list of parallel {@code int[]} arrays (doc id, weighted term
+ * frequency), kept sorted because doc ids are only ever appended. Updating a document appends
+ * a new doc id and tombstones the old one; tombstones are compacted away once they outnumber
+ * live documents. Reads share a lock, writes are exclusive.
+ */
+public class SearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int TAG_WEIGHT = 2;
+    static final int SUMMARY_WEIGHT = 1;
+    static final int BODY_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<Entry> docs = new ArrayList<>();
+    private final Map<Key, Integer> docIdByKey = new HashMap<>();
+    private int liveDocs;
+    private int tombstones;
+    private long totalLength;
+
+    /**
+     * Add a document, replacing any earlier version with the same type and entity id.
+     */
+    public void upsert(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, document.title(), TITLE_WEIGHT);
+        addTerms(frequencies, document.tags(), TAG_WEIGHT);
+        addTerms(frequencies, document.summary(), SUMMARY_WEIGHT);
+        addTerms(frequencies, document.body(), BODY_WEIGHT);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(new Key(document.type(), document.entityId()));
+            int docId = docs.size();
+            // The body is only needed for tokenizing, so it is not retained
+            SearchDocument stored = new SearchDocument(document.type(), document.entityId(), document.slug(),
+                    document.title(), document.summary(), document.tags(), null);
+            docs.add(new Entry(stored, length, frequencies.keySet().toArray(String[]::new)));
+            docIdByKey.put(new Key(document.type(), document.entityId()), docId);
+            for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), t -> new Postings()).add(docId, term.getValue());
+            }
+            liveDocs++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocument.Type type, Long entityId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(new Key(type, entityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+            docIdByKey.clear();
+            liveDocs = 0;
+            tombstones = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents matching any term of {@code query}.
+     *
+     * @param type  restrict results to one document type, or {@code null} for all
+     * @param limit maximum number of hits to return
+     */
+    public List<SearchHit> search(String query, SearchDocument.Type type, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / liveDocs;
+            float[] scores = new float[docs.size()];
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null || list.live == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveDocs - list.live + 0.5) / (list.live + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    Entry entry = docs.get(list.docs[i]);
+                    if (entry == null) {
+                        continue;
+                    }
+                    int tf = list.freqs[i];
+                    double norm = K1 * (1 - B + B * entry.length / avgLength);
+                    scores[list.docs[i]] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+            return topHits(scores, type, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<SearchHit> topHits(float[] scores, SearchDocument.Type type, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Comparator.comparingDouble(d -> scores[d]));
+        for (int docId = 0; docId < scores.length; docId++) {
+            if (scores[docId] <= 0) {
+                continue;
+            }
+            if (type != null && docs.get(docId).document.type() != type) {
+                continue;
+            }
+            heap.offer(docId);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int docId = heap.poll();
+            SearchDocument doc = docs.get(docId).document;
+            hits.add(new SearchHit(doc.type(), doc.entityId(), doc.slug(), doc.title(), doc.summary(), scores[docId]));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private void removeLocked(Key key) {
+        Integer docId = docIdByKey.remove(key);
+        if (docId == null) {
+            return;
+        }
+        Entry entry = docs.set(docId, null);
+        for (String term : entry.terms) {
+            postings.get(term).live--;
+        }
+        liveDocs--;
+        tombstones++;
+        totalLength -= entry.length;
+        if (tombstones >= MIN_TOMBSTONES_FOR_COMPACTION && tombstones > liveDocs) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Drop tombstoned documents and renumber the survivors, preserving postings order.
+     */
+    private void compactLocked() {
+        int[] remap = new int[docs.size()];
+        List<Entry> live = new ArrayList<>(liveDocs);
+        for (int docId = 0; docId < docs.size(); docId++) {
+            Entry entry = docs.get(docId);
+            remap[docId] = entry == null ? -1 : live.size();
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        Iterator<Postings> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings list = it.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+        docs.clear();
+        docs.addAll(live);
+        docIdByKey.replaceAll((key, docId) -> remap[docId]);
+        tombstones = 0;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : Tokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record Key(SearchDocument.Type type, Long entityId) {
+    }
+
+    private record Entry(SearchDocument document, int length, String[] terms) {
+    }
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int live;
+
+        void add(int docId, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = docId;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int mapped = remap[docs[i]];
+                if (mapped >= 0) {
+                    docs[kept] = mapped;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            live = kept;
+            if (docs.length > 8 && size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(4, size * 2));
+                freqs = Arrays.copyOf(freqs, Math.max(4, size * 2));
+            }
+        }
+    }
+}
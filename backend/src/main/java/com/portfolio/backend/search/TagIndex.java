@@ -0,0 +1,140 @@
+package com.portfolio.backend.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maps tags to the set of entity ids carrying them. Tags are interned to small integer ids
+ * (case-insensitive, first spelling wins for display) and each tag owns a {@link BitSet} over
+ * entity ids, so multi-tag filters are bitmap intersections. Assumes ids fit in an int,
+ * which holds for IDENTITY keys on this corpus.
+ */
+public class TagIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<BitSet> members = new ArrayList<>();
+    private final Map<Long, int[]> tagsByEntity = new HashMap<>();
+
+    /**
+     * Set the tags of {@code entityId}, replacing whatever it had before.
+     */
+    public void put(long entityId, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(entityId);
+            Set<Integer> ids = new LinkedHashSet<>();
+            for (String tag : tags) {
+                ids.add(intern(tag));
+            }
+            int[] tagIds = ids.stream().mapToInt(Integer::intValue).toArray();
+            for (int tagId : tagIds) {
+                members.get(tagId).set(Math.toIntExact(entityId));
+            }
+            tagsByEntity.put(entityId, tagIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long entityId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(entityId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            idsByKey.clear();
+            names.clear();
+            members.clear();
+            tagsByEntity.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of entities carrying every one of {@code tags}. Unknown tags yield an empty set.
+     */
+    public BitSet matchAll(Collection<String> tags) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (String tag : tags) {
+                Integer tagId = idsByKey.get(normalize(tag));
+                if (tagId == null) {
+                    return new BitSet();
+                }
+                if (result == null) {
+                    result = (BitSet) members.get(tagId).clone();
+                } else {
+                    result.and(members.get(tagId));
+                }
+            }
+            return result == null ? new BitSet() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tags in use, most frequent first.
+     */
+    public List<TagCount> counts() {
+        lock.readLock().lock();
+        try {
+            List<TagCount> counts = new ArrayList<>();
+            for (int tagId = 0; tagId < names.size(); tagId++) {
+                int count = members.get(tagId).cardinality();
+                if (count > 0) {
+                    counts.add(new TagCount(names.get(tagId), count));
+                }
+            }
+            counts.sort(Comparator.comparingInt(TagCount::count).reversed().thenComparing(TagCount::tag));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private int intern(String tag) {
+        return idsByKey.computeIfAbsent(normalize(tag), key -> {
+            names.add(tag.trim());
+            members.add(new BitSet());
+            return names.size() - 1;
+        });
+    }
+
+    private void removeLocked(long entityId) {
+        int[] tagIds = tagsByEntity.remove(entityId);
+        if (tagIds == null) {
+            return;
+        }
+        for (int tagId : tagIds) {
+            members.get(tagId).clear(Math.toIntExact(entityId));
+        }
+    }
+
+    public record TagCount(String tag, int count) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.portfolio.backend.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased search terms. Anything that is not a letter or digit is a
+ * separator, so Markdown syntax and punctuation drop out. English stop words are skipped and
+ * simple plurals are folded ("microservices" matches "microservice").
+ */
+@UtilityClass
+public class Tokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "how", "if", "in",
+            "into", "is", "it", "its", "of", "on", "or", "that", "the", "their", "then", "there",
+            "these", "this", "to", "was", "we", "what", "when", "which", "while", "with", "you", "your");
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addToken(tokens, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String raw) {
+        String token = raw.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(token)) {
+            return;
+        }
+        tokens.add(stem(token));
+    }
+
+    static String stem(String token) {
+        int n = token.length();
+        if (n > 4 && token.endsWith("ies")) {
+            return token.substring(0, n - 3) + "y";
+        }
+        if (n > 3 && token.charAt(n - 1) == 's'
+                && !token.endsWith("ss") && !token.endsWith("us") && !token.endsWith("is")) {
+            return token.substring(0, n - 1);
+        }
+        return token;
+    }
+}
@@ -1,10 +1,20 @@
 package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.BlogSummaryDTO;
 import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.TagCountDTO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BlogService {
     PagedResponse<BlogDTO> getAllBlogs(int page, int size);
+    PagedResponse<BlogSummaryDTO> getBlogSummaries(int page, int size);
+    PagedResponse<BlogSummaryDTO> getBlogSummariesAfter(String cursor, int size, boolean includeTotal);
+    PagedResponse<BlogSummaryDTO> getBlogSummariesByTags(List<String> tags, int page, int size);
+    List<TagCountDTO> getTagCounts();
     Optional<BlogDTO> getBlogBySlug(String slug);
+    Map<String, BlogDTO> getBlogsBySlugs(Collection<String> slugs);
 }
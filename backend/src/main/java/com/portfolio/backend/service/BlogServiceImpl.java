@@ -1,25 +1,43 @@
 package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.BlogSummaryDTO;
 import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.TagCountDTO;
 import com.portfolio.backend.model.Blog;
 import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.BlogSummaryView;
+import com.portfolio.backend.search.ContentTagIndex;
+import com.portfolio.backend.util.CursorCodec;
 import com.portfolio.backend.util.DtoConverter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("portfolio.service")
 public class BlogServiceImpl implements BlogService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "publishedAt", "id");
+
     private final BlogRepository blogRepository;
+    private final ContentTagIndex tagIndex;
 
     @Override
     public PagedResponse<BlogDTO> getAllBlogs(int page, int size) {
@@ -34,11 +52,74 @@ public class BlogServiceImpl implements BlogService {
                 .build();
     }
 
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummaries(int page, int size) {
+        Page<BlogSummaryView> blogPage = blogRepository.findAllProjectedBy(
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt")));
+        return PagedResponse.<BlogSummaryDTO>builder()
+                .items(DtoConverter.toBlogSummaryDTOList(blogPage.getContent()))
+                .total(blogPage.getTotalElements())
+                .page(blogPage.getNumber())
+                .size(blogPage.getSize())
+                .totalPages(blogPage.getTotalPages())
+                .build();
+    }
+
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummariesAfter(String cursor, int size, boolean includeTotal) {
+        Window<BlogSummaryView> window = blogRepository.findAllProjectedBy(
+                CursorCodec.decodeBlogCursor(cursor), KEYSET_SORT, Limit.of(size));
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            BlogSummaryView last = window.getContent().get(window.size() - 1);
+            nextCursor = CursorCodec.encodeBlogCursor(last.getPublishedAt(), last.getId());
+        }
+        return PagedResponse.<BlogSummaryDTO>builder()
+                .items(DtoConverter.toBlogSummaryDTOList(window.getContent()))
+                .total(includeTotal ? blogRepository.count() : null)
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummariesByTags(List<String> tags, int page, int size) {
+        BitSet ids = tagIndex.blogs().matchAll(tags);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"));
+        Page<BlogSummaryView> blogPage = ids.isEmpty()
+                ? Page.empty(pageRequest)
+                : blogRepository.findByIdIn(ids.stream().mapToObj(Long::valueOf).toList(), pageRequest);
+        return PagedResponse.<BlogSummaryDTO>builder()
+                .items(DtoConverter.toBlogSummaryDTOList(blogPage.getContent()))
+                .total(blogPage.getTotalElements())
+                .page(blogPage.getNumber())
+                .size(blogPage.getSize())
+                .totalPages(blogPage.getTotalPages())
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TagCountDTO> getTagCounts() {
+        return DtoConverter.toTagCountDTOList(tagIndex.blogs().counts());
+    }
+
     @Override
     public Optional<BlogDTO> getBlogBySlug(String slug) {
         return blogRepository.findBySlug(slug)
                 .map(DtoConverter::toDTO);
     }
 
+    /**
+     * All posts with these slugs in one {@code IN} query; slugs without a post are absent.
+     */
+    @Override
+    public Map<String, BlogDTO> getBlogsBySlugs(Collection<String> slugs) {
+        if (slugs.isEmpty()) {
+            return Map.of();
+        }
+        return blogRepository.findBySlugIn(slugs).stream()
+                .collect(Collectors.toMap(Blog::getSlug, DtoConverter::toDTO));
+    }
 
 }
@@ -0,0 +1,146 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.BoundedCache;
+import com.portfolio.backend.cache.CacheStats;
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.BlogSummaryDTO;
+import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.TagCountDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the DTOs produced by {@link BlogServiceImpl} so repeated reads skip both the
+ * database round trip and the entity-to-DTO conversion. Cache hits never open a transaction.
+ * Cached DTOs are shared between requests and must be treated as read-only.
+ */
+@Service
+@Primary
+@Timed("portfolio.service")
+public class CachingBlogService implements BlogService {
+
+    private final BlogServiceImpl delegate;
+    private final BoundedCache<String, BlogDTO> bySlug;
+    private final BoundedCache<PageKey, PagedResponse<BlogDTO>> pages;
+    private final BoundedCache<PageKey, PagedResponse<BlogSummaryDTO>> summaryPages;
+    private final BoundedCache<CursorKey, PagedResponse<BlogSummaryDTO>> summaryCursorPages;
+    private final BoundedCache<TagKey, PagedResponse<BlogSummaryDTO>> tagPages;
+
+    public CachingBlogService(BlogServiceImpl delegate,
+                              @Value("${portfolio.cache.max-size:256}") int maxSize,
+                              @Value("${portfolio.cache.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.bySlug = new BoundedCache<>("blogs.bySlug", maxSize, ttl);
+        this.tagPages = new BoundedCache<>("blogs.tagPages", maxSize, ttl);
+        this.pages = new BoundedCache<>("blogs.pages", maxSize, ttl);
+        this.summaryCursorPages = new BoundedCache<>("blogs.summaryCursorPages", maxSize, ttl);
+        this.summaryPages = new BoundedCache<>("blogs.summaryPages", maxSize, ttl);
+    }
+
+    @Override
+    public PagedResponse<BlogDTO> getAllBlogs(int page, int size) {
+        return pages.get(new PageKey(page, size), key -> delegate.getAllBlogs(key.page(), key.size()));
+    }
+
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummaries(int page, int size) {
+        return summaryPages.get(new PageKey(page, size), key -> delegate.getBlogSummaries(key.page(), key.size()));
+    }
+
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummariesAfter(String cursor, int size, boolean includeTotal) {
+        return summaryCursorPages.get(new CursorKey(cursor == null ? "" : cursor, size, includeTotal),
+                key -> delegate.getBlogSummariesAfter(key.cursor(), key.size(), key.includeTotal()));
+    }
+
+    @Override
+    public PagedResponse<BlogSummaryDTO> getBlogSummariesByTags(List<String> tags, int page, int size) {
+        return tagPages.get(new TagKey(List.copyOf(tags), page, size),
+                key -> delegate.getBlogSummariesByTags(key.tags(), key.page(), key.size()));
+    }
+
+    /**
+     * Tag counts come straight from the in-memory tag index without a transaction, so they are not cached.
+     */
+    @Override
+    public List<TagCountDTO> getTagCounts() {
+        return delegate.getTagCounts();
+    }
+
+    @Override
+    public Optional<BlogDTO> getBlogBySlug(String slug) {
+        return Optional.ofNullable(bySlug.get(slug, key -> delegate.getBlogBySlug(key).orElse(null)));
+    }
+
+    /**
+     * Cached blogs are served from the cache; the rest are loaded together in one query.
+     */
+    @Override
+    public Map<String, BlogDTO> getBlogsBySlugs(Collection<String> slugs) {
+        Map<String, BlogDTO> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String slug : slugs) {
+            BlogDTO cached = bySlug.getIfPresent(slug);
+            if (cached != null) {
+                found.put(slug, cached);
+            } else {
+                misses.add(slug);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long seen = bySlug.generation();
+            delegate.getBlogsBySlugs(misses).forEach((slug, blog) -> {
+                bySlug.putIfGeneration(slug, blog, seen);
+                found.put(slug, blog);
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Invalidation hook: drop every cached blog page and post.
+     */
+    public void invalidateAll() {
+        bySlug.invalidateAll();
+        tagPages.invalidateAll();
+        pages.invalidateAll();
+        summaryCursorPages.invalidateAll();
+        summaryPages.invalidateAll();
+    }
+
+    public List<CacheStats> cacheStats() {
+        return List.of(bySlug.stats(), tagPages.stats(), pages.stats(), summaryCursorPages.stats(), summaryPages.stats());
+    }
+
+    // After the tag index, before ResponseBodyCache, which renders bodies from these DTOs
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.isBlog()) {
+            invalidateAll();
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    private record CursorKey(String cursor, int size, boolean includeTotal) {
+    }
+
+    private record TagKey(List<String> tags, int page, int size) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.BoundedCache;
+import com.portfolio.backend.cache.CacheStats;
+import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.TagCountDTO;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the DTOs produced by {@link ProjectServiceImpl}; see {@link CachingBlogService}.
+ */
+@Service
+@Primary
+@Timed("portfolio.service")
+public class CachingProjectService implements ProjectService {
+
+    private final ProjectServiceImpl delegate;
+    private final BoundedCache<String, ProjectDTO> bySlug;
+    private final BoundedCache<PageKey, PagedResponse<ProjectDTO>> pages;
+    private final BoundedCache<CursorKey, PagedResponse<ProjectDTO>> cursorPages;
+    private final BoundedCache<TagKey, PagedResponse<ProjectDTO>> tagPages;
+
+    public CachingProjectService(ProjectServiceImpl delegate,
+                                 @Value("${portfolio.cache.max-size:256}") int maxSize,
+                                 @Value("${portfolio.cache.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.bySlug = new BoundedCache<>("projects.bySlug", maxSize, ttl);
+        this.tagPages = new BoundedCache<>("projects.tagPages", maxSize, ttl);
+        this.pages = new BoundedCache<>("projects.pages", maxSize, ttl);
+        this.cursorPages = new BoundedCache<>("projects.cursorPages", maxSize, ttl);
+    }
+
+    @Override
+    public PagedResponse<ProjectDTO> getAllProjects(int page, int size) {
+        return pages.get(new PageKey(page, size), key -> delegate.getAllProjects(key.page(), key.size()));
+    }
+
+    @Override
+    public PagedResponse<ProjectDTO> getProjectsAfter(String cursor, int size, boolean includeTotal) {
+        return cursorPages.get(new CursorKey(cursor == null ? "" : cursor, size, includeTotal),
+                key -> delegate.getProjectsAfter(key.cursor(), key.size(), key.includeTotal()));
+    }
+
+    @Override
+    public PagedResponse<ProjectDTO> getProjectsByTags(List<String> tags, int page, int size) {
+        return tagPages.get(new TagKey(List.copyOf(tags), page, size),
+                key -> delegate.getProjectsByTags(key.tags(), key.page(), key.size()));
+    }
+
+    /**
+     * Tag counts come straight from the in-memory tag index without a transaction, so they are not cached.
+     */
+    @Override
+    public List<TagCountDTO> getTagCounts() {
+        return delegate.getTagCounts();
+    }
+
+    @Override
+    public Optional<ProjectDTO> getProjectBySlug(String slug) {
+        return Optional.ofNullable(bySlug.get(slug, key -> delegate.getProjectBySlug(key).orElse(null)));
+    }
+
+    /**
+     * Cached projects are served from the cache; the rest are loaded together in one query.
+     */
+    @Override
+    public Map<String, ProjectDTO> getProjectsBySlugs(Collection<String> slugs) {
+        Map<String, ProjectDTO> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String slug : slugs) {
+            ProjectDTO cached = bySlug.getIfPresent(slug);
+            if (cached != null) {
+                found.put(slug, cached);
+            } else {
+                misses.add(slug);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long seen = bySlug.generation();
+            delegate.getProjectsBySlugs(misses).forEach((slug, project) -> {
+                bySlug.putIfGeneration(slug, project, seen);
+                found.put(slug, project);
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Only read to build the homepage aggregate, which is materialized itself, so not cached here.
+     */
+    @Override
+    public List<ProjectDTO> getFeaturedProjects(int limit) {
+        return delegate.getFeaturedProjects(limit);
+    }
+
+    /**
+     * Invalidation hook: drop every cached project page and project.
+     */
+    public void invalidateAll() {
+        bySlug.invalidateAll();
+        tagPages.invalidateAll();
+        pages.invalidateAll();
+        cursorPages.invalidateAll();
+    }
+
+    public List<CacheStats> cacheStats() {
+        return List.of(bySlug.stats(), tagPages.stats(), pages.stats(), cursorPages.stats());
+    }
+
+    // After the tag index, before ResponseBodyCache, which renders bodies from these DTOs
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.isProject()) {
+            invalidateAll();
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    private record CursorKey(String cursor, int size, boolean includeTotal) {
+    }
+
+    private record TagKey(List<String> tags, int page, int size) {
+    }
+}
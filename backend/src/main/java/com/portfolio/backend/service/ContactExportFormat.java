@@ -0,0 +1,37 @@
+package com.portfolio.backend.service;
+
+import java.util.Locale;
+
+import com.portfolio.backend.util.InvalidRequestException;
+
+/**
+ * Output formats of the contact message export.
+ */
+public enum ContactExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ContactExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ContactExportFormat parse(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new InvalidRequestException("Unknown export format: " + format);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ContactExportService {
+
+    /**
+     * Write every contact message with {@code from <= createdAt < to} to {@code out}, oldest
+     * first. Either bound may be null. Returns the number of messages written.
+     */
+    long exportMessages(LocalDateTime from, LocalDateTime to, ContactExportFormat format, OutputStream out)
+            throws IOException;
+}
@@ -0,0 +1,178 @@
+package com.portfolio.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams contact messages straight from a forward-only JDBC cursor to the caller's stream.
+ * Rows are fetched {@code fetchSize} at a time and written as they arrive, without entities or
+ * a persistence context, so memory use does not grow with the number of messages. MySQL
+ * Connector/J buffers whole results for positive fetch sizes unless {@code useCursorFetch} is
+ * set, so there the statement uses the driver's row-by-row streaming mode instead.
+ */
+@Service
+@Slf4j
+@Timed("portfolio.service")
+public class ContactExportServiceImpl implements ContactExportService {
+
+    private static final String SELECT = "SELECT id, name, email, message, created_at FROM contact_messages";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ContactExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                    @Value("${portfolio.contact.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMessages(LocalDateTime from, LocalDateTime to, ContactExportFormat format, OutputStream out)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<LocalDateTime> params = new ArrayList<>(2);
+        if (from != null) {
+            sql.append(params.isEmpty() ? " WHERE" : " AND").append(" created_at >= ?");
+            params.add(from);
+        }
+        if (to != null) {
+            sql.append(params.isEmpty() ? " WHERE" : " AND").append(" created_at < ?");
+            params.add(to);
+        }
+        sql.append(" ORDER BY created_at, id");
+
+        MessageWriter writer = format == ContactExportFormat.CSV ? new CsvWriter(out) : new NdjsonWriter(out);
+        long[] count = new long[1];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+                statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    writer.write(rs.getLong("id"), rs.getString("name"), rs.getString("email"),
+                            rs.getString("message"), rs.getObject("created_at", LocalDateTime.class));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        log.info("Exported {} contact messages as {}", count[0], format);
+        return count[0];
+    }
+
+    private interface MessageWriter {
+
+        void write(long id, String name, String email, String message, LocalDateTime createdAt) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    private final class NdjsonWriter implements MessageWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(long id, String name, String email, String message, LocalDateTime createdAt)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("name", name);
+            generator.writeStringField("email", email);
+            generator.writeStringField("message", message);
+            generator.writeStringField("createdAt", createdAt.toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row. Every text cell is quoted, and cells a spreadsheet would
+     * evaluate as a formula are prefixed with an apostrophe, since they hold visitor input.
+     */
+    private static final class CsvWriter implements MessageWriter {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write("id,name,email,message,created_at\r\n");
+        }
+
+        @Override
+        public void write(long id, String name, String email, String message, LocalDateTime createdAt)
+                throws IOException {
+            writer.write(Long.toString(id));
+            writer.write(',');
+            writeCell(name);
+            writer.write(',');
+            writeCell(email);
+            writer.write(',');
+            writeCell(message);
+            writer.write(',');
+            writer.write(createdAt.toString());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeCell(String value) throws IOException {
+            writer.write('"');
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -1,19 +1,22 @@
 package com.portfolio.backend.service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.model.EmailOutbox;
+import com.portfolio.backend.ratelimit.ContactDeduplicator;
 import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.EmailOutboxRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,16 +24,14 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Timed("portfolio.service")
 public class ContactServiceImpl implements ContactService {
 
     private final ContactMessageRepository repository;
+    private final EmailOutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-
-    @Value("${resend.api.key}")
-    private String resendApiKey;
+    private final ContactDeduplicator deduplicator;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${recipient.email}")
     private String recipientEmail;
@@ -38,51 +39,74 @@ public class ContactServiceImpl implements ContactService {
     @Value("${resend.from.email:Portfolio Contact <contact@puspo.online>}")
     private String senderEmail;
 
+    /**
+     * Persist the message together with an outbox row in one transaction.
+     * The email itself is sent asynchronously by {@link OutboxDispatcher}.
+     * <p>
+     * A repeat of a message accepted within the dedup window is acknowledged with the earlier
+     * message's id, without another row or email.
+     */
     @Override
     public ContactMessage saveMessage(ContactMessage message) {
-        // 1. Send via Resend API (HTTP to bypass SMTP block)
-        sendEmailViaResend(message);
+        if (!deduplicator.isEnabled()) {
+            return transactionTemplate.execute(status -> persist(message));
+        }
+        String fingerprint = ContactDeduplicator.fingerprint(message.getEmail(), message.getMessage());
+        Long previousId = deduplicator.recentMessageId(fingerprint);
+        if (previousId != null) {
+            return acknowledgeDuplicate(message, previousId);
+        }
+        message.setFingerprint(fingerprint);
+        message.setDedupWindow(deduplicator.window(System.currentTimeMillis()));
+        ContactMessage saved;
+        try {
+            saved = transactionTemplate.execute(status -> persist(message));
+        } catch (DataIntegrityViolationException e) {
+            // Stored in this window by another instance, a concurrent request or before a
+            // restart; looked up in a read-write transaction so a replica's lag cannot hide it
+            ContactMessage existing = transactionTemplate.execute(status -> repository
+                    .findByFingerprintAndDedupWindow(fingerprint, message.getDedupWindow()))
+                    .orElseThrow(() -> e);
+            deduplicator.remember(fingerprint, existing.getId());
+            return acknowledgeDuplicate(message, existing.getId());
+        }
+        deduplicator.remember(fingerprint, saved.getId());
+        return saved;
+    }
+
+    private ContactMessage persist(ContactMessage message) {
+        ContactMessage saved = repository.save(message);
+
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setContactMessageId(saved.getId());
+        outbox.setPayload(buildEmailPayload(saved));
+        outboxRepository.save(outbox);
+
+        log.info("Queued notification email for contact message {}", saved.getId());
+        return saved;
+    }
 
-        // 2. Save to DB
-        return repository.save(message);
+    private static ContactMessage acknowledgeDuplicate(ContactMessage message, Long previousId) {
+        log.info("Duplicate of contact message {} acknowledged without storing or emailing", previousId);
+        message.setId(previousId);
+        return message;
     }
 
-    private void sendEmailViaResend(ContactMessage message) {
+    private String buildEmailPayload(ContactMessage message) {
+        // Use Jackson ObjectMapper for proper JSON encoding (prevents XSS/injection)
+        Map<String, Object> emailData = Map.of(
+                "from", senderEmail,
+                "to", List.of(recipientEmail),
+                "subject", "Portfolio Contact: " + escapeHtml(message.getName()),
+                "html", buildHtmlBody(message));
         try {
-            log.info("Sending email via Resend API...");
-
-            // Use Jackson ObjectMapper for proper JSON encoding (prevents XSS/injection)
-            Map<String, Object> emailData = Map.of(
-                    "from", senderEmail,
-                    "to", List.of(recipientEmail),
-                    "subject", "Portfolio Contact: " + escapeHtml(message.getName()),
-                    "html", buildHtmlBody(message));
-
-            String jsonBody = objectMapper.writeValueAsString(emailData);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create("https://api.resend.com/emails"))
-                    .header("Content-Type", "application/json")
-                    .header("Authorization", "Bearer " + resendApiKey)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200 || response.statusCode() == 201) {
-                log.info("Email sent successfully via Resend! Response: {}", response.body());
-            } else {
-                log.error("Resend API Failed: {} {}", response.statusCode(), response.body());
-                throw new RuntimeException("Failed to send email via Resend API: " + response.body());
-            }
-
-        } catch (Exception e) {
-            log.error("Email sending error: {}", e.getMessage(), e);
-            throw new RuntimeException("Email sending failed: " + e.getMessage());
+            return objectMapper.writeValueAsString(emailData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode email payload", e);
         }
     }
 
-    private String buildHtmlBody(ContactMessage message) {
+    static String buildHtmlBody(ContactMessage message) {
         return String.format(
                 "<p><strong>Name:</strong> %s</p><p><strong>Email:</strong> %s</p><p><strong>Message:</strong><br/>%s</p>",
                 escapeHtml(message.getName()),
@@ -90,7 +114,7 @@ public class ContactServiceImpl implements ContactService {
                 escapeHtml(message.getMessage()).replace("\n", "<br/>"));
     }
 
-    private String escapeHtml(String input) {
+    static String escapeHtml(String input) {
         if (input == null)
             return "";
         return input
@@ -0,0 +1,15 @@
+package com.portfolio.backend.service;
+
+/**
+ * Raised when the Resend API rejects or fails to accept an email.
+ */
+public class EmailDeliveryException extends RuntimeException {
+
+    public EmailDeliveryException(String message) {
+        super(message);
+    }
+
+    public EmailDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.dto.HomeDTO;
+
+public interface HomeService {
+    HomeDTO getHome();
+    ResponseBodyCache.Rendered getRenderedHome();
+}
@@ -0,0 +1,108 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.dto.HomeDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the homepage aggregate materialized: the DTO and its serialized, gzipped and hashed
+ * bytes are built once and served until a blog or project changes. A change only marks the
+ * aggregate stale; the next request rebuilds it, so a burst of changes (a bulk import) costs
+ * one rebuild. If the rebuild fails because the database is unreachable, the previous
+ * aggregate keeps being served.
+ */
+@Service
+@Slf4j
+public class HomeServiceImpl implements HomeService {
+
+    // The uncached implementations: a rebuild may run before the DTO caches have seen the change
+    private final BlogServiceImpl blogService;
+    private final ProjectServiceImpl projectService;
+    private final ResponseBodyCache responses;
+    private final int latestBlogs;
+    private final int featuredProjects;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Materialized current;
+    private volatile boolean stale = true;
+
+    public HomeServiceImpl(BlogServiceImpl blogService, ProjectServiceImpl projectService, ResponseBodyCache responses,
+                           @Value("${portfolio.home.latest-blogs:5}") int latestBlogs,
+                           @Value("${portfolio.home.featured-projects:6}") int featuredProjects) {
+        this.blogService = blogService;
+        this.projectService = projectService;
+        this.responses = responses;
+        this.latestBlogs = latestBlogs;
+        this.featuredProjects = featuredProjects;
+    }
+
+    @Override
+    public HomeDTO getHome() {
+        return materialized().home();
+    }
+
+    @Override
+    public ResponseBodyCache.Rendered getRenderedHome() {
+        return materialized().rendered();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        materialized();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        generation.incrementAndGet();
+        stale = true;
+    }
+
+    private Materialized materialized() {
+        if (!stale) {
+            return current;
+        }
+        synchronized (this) {
+            if (!stale) {
+                return current;
+            }
+            long seen = generation.get();
+            Materialized rebuilt;
+            try {
+                rebuilt = build();
+            } catch (DataAccessException | TransactionException e) {
+                if (current == null) {
+                    throw e;
+                }
+                log.warn("Serving the previous homepage aggregate, rebuild failed: {}", e.getMessage());
+                return current;
+            }
+            current = rebuilt;
+            // A change that landed mid-build leaves it stale, so the next request rebuilds again
+            stale = generation.get() != seen;
+            return rebuilt;
+        }
+    }
+
+    private Materialized build() {
+        HomeDTO home = HomeDTO.builder()
+                .latestBlogs(blogService.getBlogSummariesAfter("", latestBlogs, false).getItems())
+                .featuredProjects(projectService.getFeaturedProjects(featuredProjects))
+                .blogTags(blogService.getTagCounts())
+                .projectTags(projectService.getTagCounts())
+                .build();
+        return new Materialized(home, responses.render(home));
+    }
+
+    private record Materialized(HomeDTO home, ResponseBodyCache.Rendered rendered) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.portfolio.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.portfolio.backend.model.EmailOutbox;
+import com.portfolio.backend.repository.EmailOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains {@link EmailOutbox} rows in batches. Failed sends are retried with exponential
+ * backoff; rows that keep failing are marked {@link EmailOutbox.Status#DEAD} and left for
+ * manual inspection. Assumes a single running instance.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final ResendEmailSender sender;
+
+    @Value("${portfolio.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${portfolio.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${portfolio.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${portfolio.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${portfolio.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    public OutboxDispatcher(EmailOutboxRepository outboxRepository, ResendEmailSender sender) {
+        this.outboxRepository = outboxRepository;
+        this.sender = sender;
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.outbox.poll-interval:5s}")
+    public void poll() {
+        if (enabled) {
+            dispatchDue();
+        }
+    }
+
+    /**
+     * Send one batch of due emails.
+     *
+     * @return the number of rows processed
+     */
+    public int dispatchDue() {
+        List<EmailOutbox> batch = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                EmailOutbox.Status.PENDING, LocalDateTime.now(), Limit.of(batchSize));
+        for (EmailOutbox entry : batch) {
+            deliver(entry);
+        }
+        return batch.size();
+    }
+
+    private void deliver(EmailOutbox entry) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        try {
+            sender.send(entry.getPayload());
+            entry.setStatus(EmailOutbox.Status.SENT);
+            entry.setSentAt(LocalDateTime.now());
+            entry.setLastError(null);
+        } catch (RuntimeException e) {
+            entry.setLastError(truncate(e.getMessage()));
+            if (entry.getAttempts() >= maxAttempts) {
+                entry.setStatus(EmailOutbox.Status.DEAD);
+                log.error("Giving up on outbox email {} after {} attempts: {}",
+                        entry.getId(), entry.getAttempts(), e.getMessage());
+            } else {
+                entry.setNextAttemptAt(LocalDateTime.now().plus(backoff(entry.getAttempts())));
+                log.warn("Outbox email {} failed (attempt {}), retrying at {}: {}",
+                        entry.getId(), entry.getAttempts(), entry.getNextAttemptAt(), e.getMessage());
+            }
+        }
+        outboxRepository.save(entry);
+    }
+
+    Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
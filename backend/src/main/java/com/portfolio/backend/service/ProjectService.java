@@ -2,9 +2,18 @@ package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.PagedResponse;
 import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.TagCountDTO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProjectService {
     PagedResponse<ProjectDTO> getAllProjects(int page, int size);
+    PagedResponse<ProjectDTO> getProjectsAfter(String cursor, int size, boolean includeTotal);
+    PagedResponse<ProjectDTO> getProjectsByTags(List<String> tags, int page, int size);
+    List<TagCountDTO> getTagCounts();
     Optional<ProjectDTO> getProjectBySlug(String slug);
+    Map<String, ProjectDTO> getProjectsBySlugs(Collection<String> slugs);
+    List<ProjectDTO> getFeaturedProjects(int limit);
 }
@@ -2,23 +2,40 @@ package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.PagedResponse;
 import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.TagCountDTO;
 import com.portfolio.backend.model.Project;
 import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.search.ContentTagIndex;
+import com.portfolio.backend.util.CursorCodec;
 import com.portfolio.backend.util.DtoConverter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("portfolio.service")
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.ASC, "id");
+
     private final ProjectRepository repository;
+    private final ContentTagIndex tagIndex;
 
     @Override
     public PagedResponse<ProjectDTO> getAllProjects(int page, int size) {
@@ -32,11 +49,68 @@ public class ProjectServiceImpl implements ProjectService {
                 .build();
     }
 
+    @Override
+    public PagedResponse<ProjectDTO> getProjectsAfter(String cursor, int size, boolean includeTotal) {
+        Window<Project> window = repository.findAllBy(
+                CursorCodec.decodeProjectCursor(cursor), KEYSET_SORT, Limit.of(size));
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = CursorCodec.encodeProjectCursor(window.getContent().get(window.size() - 1).getId());
+        }
+        return PagedResponse.<ProjectDTO>builder()
+                .items(DtoConverter.toProjectDTOList(window.getContent()))
+                .total(includeTotal ? repository.count() : null)
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public PagedResponse<ProjectDTO> getProjectsByTags(List<String> tags, int page, int size) {
+        BitSet ids = tagIndex.projects().matchAll(tags);
+        PageRequest pageRequest = PageRequest.of(page, size, KEYSET_SORT);
+        Page<Project> projectPage = ids.isEmpty()
+                ? Page.empty(pageRequest)
+                : repository.findByIdIn(ids.stream().mapToObj(Long::valueOf).toList(), pageRequest);
+        return PagedResponse.<ProjectDTO>builder()
+                .items(DtoConverter.toProjectDTOList(projectPage.getContent()))
+                .total(projectPage.getTotalElements())
+                .page(projectPage.getNumber())
+                .size(projectPage.getSize())
+                .totalPages(projectPage.getTotalPages())
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TagCountDTO> getTagCounts() {
+        return DtoConverter.toTagCountDTOList(tagIndex.projects().counts());
+    }
+
     @Override
     public Optional<ProjectDTO> getProjectBySlug(String slug) {
         return repository.findBySlug(slug)
                 .map(DtoConverter::toDTO);
     }
 
+    /**
+     * Featured projects first, then the rest, each in id order.
+     */
+    @Override
+    public List<ProjectDTO> getFeaturedProjects(int limit) {
+        return DtoConverter.toProjectDTOList(repository.findAllByOrderByFeaturedDescIdAsc(Limit.of(limit)));
+    }
+
+    /**
+     * All projects with these slugs in one {@code IN} query; slugs without a project are absent.
+     */
+    @Override
+    public Map<String, ProjectDTO> getProjectsBySlugs(Collection<String> slugs) {
+        if (slugs.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findBySlugIn(slugs).stream()
+                .collect(Collectors.toMap(Project::getSlug, DtoConverter::toDTO));
+    }
 
 }
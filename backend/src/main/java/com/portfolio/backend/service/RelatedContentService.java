@@ -0,0 +1,16 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.RelatedContentDTO;
+
+import java.util.Optional;
+
+public interface RelatedContentService {
+    Optional<RelatedContentDTO> getRelatedToBlog(String slug);
+
+    Optional<RelatedContentDTO> getRelatedToProject(String slug);
+
+    /**
+     * Changes whenever any related list may have changed; part of the response cache key.
+     */
+    long version();
+}
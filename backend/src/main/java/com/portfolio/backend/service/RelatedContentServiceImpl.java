@@ -0,0 +1,92 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.RelatedContentDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.search.RelatedContentIndex;
+import com.portfolio.backend.search.SearchDocument;
+import com.portfolio.backend.util.DtoConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves related blogs and projects from a precomputed {@link RelatedContentIndex}. Like the
+ * search index it is built once the application is ready and then kept current from
+ * {@link ContentChangedEvent}s, so a request is a map lookup.
+ */
+@Service
+@Slf4j
+public class RelatedContentServiceImpl implements RelatedContentService {
+
+    private final BlogRepository blogRepository;
+    private final ProjectRepository projectRepository;
+    private final RelatedContentIndex index;
+
+    public RelatedContentServiceImpl(BlogRepository blogRepository, ProjectRepository projectRepository,
+                                     @Value("${portfolio.related.top-k:5}") int topK) {
+        this.blogRepository = blogRepository;
+        this.projectRepository = projectRepository;
+        this.index = new RelatedContentIndex(topK);
+    }
+
+    @Override
+    public Optional<RelatedContentDTO> getRelatedToBlog(String slug) {
+        return Optional.ofNullable(index.get(SearchDocument.Type.BLOG, slug)).map(RelatedContentServiceImpl::toDTO);
+    }
+
+    @Override
+    public Optional<RelatedContentDTO> getRelatedToProject(String slug) {
+        return Optional.ofNullable(index.get(SearchDocument.Type.PROJECT, slug)).map(RelatedContentServiceImpl::toDTO);
+    }
+
+    @Override
+    public long version() {
+        return index.version();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SearchDocument> documents = new ArrayList<>();
+        blogRepository.findAll().forEach(blog -> documents.add(SearchServiceImpl.toDocument(blog)));
+        projectRepository.findAll().forEach(project -> documents.add(SearchServiceImpl.toDocument(project)));
+        long start = System.nanoTime();
+        index.rebuild(documents);
+        log.info("Related content computed for {} documents in {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.entity() instanceof Blog blog) {
+            if (event.action() == ContentChangedEvent.Action.DELETED) {
+                index.remove(SearchDocument.Type.BLOG, blog.getId());
+            } else {
+                index.upsert(SearchServiceImpl.toDocument(blog));
+            }
+        } else if (event.entity() instanceof Project project) {
+            if (event.action() == ContentChangedEvent.Action.DELETED) {
+                index.remove(SearchDocument.Type.PROJECT, project.getId());
+            } else {
+                index.upsert(SearchServiceImpl.toDocument(project));
+            }
+        }
+    }
+
+    private static RelatedContentDTO toDTO(RelatedContentIndex.Related related) {
+        return RelatedContentDTO.builder()
+                .blogs(related.blogs().stream().map(DtoConverter::toDTO).toList())
+                .projects(related.projects().stream().map(DtoConverter::toDTO).toList())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.backend.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Thin HTTP client for the Resend email API (HTTP to bypass SMTP block).
+ * The {@link HttpClient} comes from {@link com.portfolio.backend.config.ThreadingConfig}.
+ * Every call is timed as {@code portfolio.resend.requests}, tagged with status and outcome.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResendEmailSender {
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resend.api.key}")
+    private String resendApiKey;
+
+    @Value("${resend.api.url:https://api.resend.com/emails}")
+    private String resendApiUrl;
+
+    /**
+     * POST an already-encoded Resend request body.
+     *
+     * @throws EmailDeliveryException if the call fails or Resend answers with a non-2xx status
+     */
+    public void send(String jsonBody) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(resendApiUrl))
+                .timeout(Duration.ofSeconds(15))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + resendApiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+
+        HttpResponse<String> response;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            record(sample, "IO_ERROR", "FAILURE");
+            throw new EmailDeliveryException("Resend request failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            record(sample, "INTERRUPTED", "FAILURE");
+            Thread.currentThread().interrupt();
+            throw new EmailDeliveryException("Interrupted while calling Resend", e);
+        }
+        record(sample, String.valueOf(response.statusCode()), outcome(response.statusCode()));
+
+        if (response.statusCode() == 200 || response.statusCode() == 201) {
+            log.info("Email sent successfully via Resend! Response: {}", response.body());
+        } else {
+            log.error("Resend API Failed: {} {}", response.statusCode(), response.body());
+            throw new EmailDeliveryException("Resend API returned " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private void record(Timer.Sample sample, String status, String outcome) {
+        sample.stop(Timer.builder("portfolio.resend.requests")
+                .description("Calls to the Resend email API")
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static String outcome(int status) {
+        if (status >= 200 && status < 300) {
+            return "SUCCESS";
+        }
+        return status >= 500 ? "SERVER_ERROR" : "CLIENT_ERROR";
+    }
+}
@@ -0,0 +1,8 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.SearchResultDTO;
+import java.util.List;
+
+public interface SearchService {
+    List<SearchResultDTO> search(String query, String type, int limit);
+}
@@ -0,0 +1,89 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.search.SearchDocument;
+import com.portfolio.backend.search.SearchIndex;
+import com.portfolio.backend.util.DtoConverter;
+import com.portfolio.backend.util.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Serves {@code /api/v1/search} from an in-memory {@link SearchIndex}. The index is built once
+ * the application is ready and then kept current from {@link ContentChangedEvent}s, so
+ * searches never reach the database.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private final BlogRepository blogRepository;
+    private final ProjectRepository projectRepository;
+    private final SearchIndex index = new SearchIndex();
+
+    @Override
+    public List<SearchResultDTO> search(String query, String type, int limit) {
+        return index.search(query, parseType(type), limit).stream()
+                .map(DtoConverter::toDTO)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        blogRepository.findAll().forEach(blog -> index.upsert(toDocument(blog)));
+        projectRepository.findAll().forEach(project -> index.upsert(toDocument(project)));
+        log.info("Search index built with {} documents", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.entity() instanceof Blog blog) {
+            if (event.action() == ContentChangedEvent.Action.DELETED) {
+                index.remove(SearchDocument.Type.BLOG, blog.getId());
+            } else {
+                index.upsert(toDocument(blog));
+            }
+        } else if (event.entity() instanceof Project project) {
+            if (event.action() == ContentChangedEvent.Action.DELETED) {
+                index.remove(SearchDocument.Type.PROJECT, project.getId());
+            } else {
+                index.upsert(toDocument(project));
+            }
+        }
+    }
+
+    private static SearchDocument.Type parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "blog", "blogs" -> SearchDocument.Type.BLOG;
+            case "project", "projects" -> SearchDocument.Type.PROJECT;
+            default -> throw new InvalidRequestException("Unknown search type: " + type);
+        };
+    }
+
+    static SearchDocument toDocument(Blog blog) {
+        return new SearchDocument(SearchDocument.Type.BLOG, blog.getId(), blog.getSlug(), blog.getTitle(),
+                blog.getExcerpt(), blog.getTags(), blog.getContent());
+    }
+
+    static SearchDocument toDocument(Project project) {
+        return new SearchDocument(SearchDocument.Type.PROJECT, project.getId(), project.getSlug(),
+                project.getTitle(), project.getDescription(), project.getTechStack(), null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.portfolio.backend.snapshot;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code GET /actuator/snapshot} shows the current snapshot; {@code POST} exports a new one.
+ * Not exposed over HTTP unless added to {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "snapshot")
+@RequiredArgsConstructor
+public class SnapshotEndpoint {
+
+    private final SnapshotStore store;
+    private final SnapshotExporter exporter;
+
+    @ReadOperation
+    public SnapshotStore.Status status() {
+        return store.status();
+    }
+
+    @WriteOperation
+    public SnapshotStore.Status export() {
+        return exporter.export();
+    }
+}
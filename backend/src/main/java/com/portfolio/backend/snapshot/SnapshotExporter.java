@@ -0,0 +1,153 @@
+package com.portfolio.backend.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.cache.ResponseBodyCache.Group;
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.PagedResponse;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.service.BlogService;
+import com.portfolio.backend.service.ProjectService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes every post, project, tag list and offset list page (for the configured page sizes) to
+ * the snapshot file, rendered exactly as the controllers would send them. Runs once the
+ * application is ready, again after content changes (batched by the refresh interval), and on
+ * demand through the {@code snapshot} actuator endpoint. Cursor and tag-filtered queries are
+ * not exported and always go to the database.
+ */
+@Component
+@Slf4j
+public class SnapshotExporter {
+
+    private final BlogService blogService;
+    private final ProjectService projectService;
+    private final ResponseBodyCache responses;
+    private final SnapshotStore store;
+    private final List<Integer> pageSizes;
+
+    private final AtomicLong changes = new AtomicLong();
+    private volatile long exportedChanges = -1;
+
+    public SnapshotExporter(BlogService blogService, ProjectService projectService,
+                            ResponseBodyCache responses, SnapshotStore store,
+                            @Value("${portfolio.snapshot.page-sizes:10,50}") List<Integer> pageSizes) {
+        this.blogService = blogService;
+        this.projectService = projectService;
+        this.responses = responses;
+        this.store = store;
+        this.pageSizes = pageSizes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exportOnStartup() {
+        refreshIfChanged();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        changes.incrementAndGet();
+        store.markStale();
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.snapshot.refresh-interval:30s}")
+    public void refreshIfChanged() {
+        if (!store.isEnabled() || changes.get() == exportedChanges) {
+            return;
+        }
+        try {
+            export();
+        } catch (RuntimeException e) {
+            log.warn("Snapshot export failed, keeping the previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Export now and switch reads to the new file.
+     */
+    public synchronized SnapshotStore.Status export() {
+        if (!store.isEnabled()) {
+            throw new IllegalStateException("Snapshots are disabled (portfolio.snapshot.enabled=false)");
+        }
+        long startChanges = changes.get();
+        long started = System.nanoTime();
+        Map<String, SnapshotFile.Entry> entries = new LinkedHashMap<>();
+
+        Map<String, BlogDTO> blogs = new LinkedHashMap<>();
+        for (int size : pageSizes) {
+            exportPages(entries, Group.BLOGS, "summary:", size, page -> blogService.getBlogSummaries(page, size));
+            for (PagedResponse<BlogDTO> page : exportPages(entries, Group.BLOGS, "full:", size,
+                    page -> blogService.getAllBlogs(page, size))) {
+                page.getItems().forEach(blog -> blogs.put(blog.getSlug(), blog));
+            }
+        }
+        for (BlogDTO blog : blogs.values()) {
+            put(entries, Group.BLOGS, "slug:" + blog.getSlug() + ":true", blog);
+            put(entries, Group.BLOGS, "slug:" + blog.getSlug() + ":false", blog.toBuilder().contentHtml(null).build());
+        }
+        put(entries, Group.BLOGS, "tags", blogService.getTagCounts());
+
+        Map<String, ProjectDTO> projects = new LinkedHashMap<>();
+        for (int size : pageSizes) {
+            for (PagedResponse<ProjectDTO> page : exportPages(entries, Group.PROJECTS, "page:", size,
+                    page -> projectService.getAllProjects(page, size))) {
+                page.getItems().forEach(project -> projects.put(project.getSlug(), project));
+            }
+        }
+        for (ProjectDTO project : projects.values()) {
+            put(entries, Group.PROJECTS, "slug:" + project.getSlug(), project);
+        }
+        put(entries, Group.PROJECTS, "tags", projectService.getTagCounts());
+
+        try {
+            SnapshotFile.write(store.path(), Instant.now(), entries);
+            store.replace(SnapshotFile.open(store.path()), changes.get() == startChanges);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot " + store.path(), e);
+        }
+        exportedChanges = startChanges;
+        log.info("Exported snapshot with {} entries in {} ms", entries.size(), (System.nanoTime() - started) / 1_000_000);
+        return store.status();
+    }
+
+    /**
+     * Export pages {@code 0..totalPages-1} under {@code prefix + page + ":" + size} and return them.
+     */
+    private <T> List<PagedResponse<T>> exportPages(Map<String, SnapshotFile.Entry> entries, Group group,
+                                                   String prefix, int size, IntFunction<PagedResponse<T>> loader) {
+        PagedResponse<T> first = loader.apply(0);
+        List<PagedResponse<T>> pages = new ArrayList<>();
+        pages.add(first);
+        int totalPages = first.getTotalPages() == null ? 1 : first.getTotalPages();
+        for (int page = 1; page < totalPages; page++) {
+            pages.add(loader.apply(page));
+        }
+        for (int page = 0; page < pages.size(); page++) {
+            put(entries, group, prefix + page + ":" + size, pages.get(page));
+        }
+        return pages;
+    }
+
+    private void put(Map<String, SnapshotFile.Entry> entries, Group group, String key, Object body) {
+        entries.put(ResponseBodyCache.snapshotKey(group, key), responses.render(body).toSnapshotEntry());
+    }
+}
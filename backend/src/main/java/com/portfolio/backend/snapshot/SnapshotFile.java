@@ -0,0 +1,198 @@
+package com.portfolio.backend.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only, memory-mapped file of pre-rendered responses keyed by string.
+ * <p>
+ * Layout, big-endian: a 32-byte header (magic, creation time, entry count, index length,
+ * CRC-32 of everything after the header), then the index, then the bodies. Each index entry is
+ * the key and content hash as length-prefixed UTF-8, followed by offset and length of the JSON
+ * body and of its gzipped copy (length -1 when there is none). The index is parsed into a hash
+ * map on open; bodies stay in the mapping and are copied out per read.
+ */
+public final class SnapshotFile {
+
+    private static final byte[] MAGIC = "PFSNAP01".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = 32;
+
+    private final MappedByteBuffer buffer;
+    private final Map<String, Slot> index;
+    private final Instant createdAt;
+
+    private SnapshotFile(MappedByteBuffer buffer, Map<String, Slot> index, Instant createdAt) {
+        this.buffer = buffer;
+        this.index = index;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * A pre-rendered body: JSON, optional gzipped JSON, and the content hash used for ETags.
+     */
+    public record Entry(byte[] json, byte[] gzip, String hash) {
+    }
+
+    /**
+     * Write {@code entries} to {@code path} atomically: readers see either the old or the new file.
+     */
+    public static void write(Path path, Instant createdAt, Map<String, Entry> entries) throws IOException {
+        int indexLength = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            indexLength += 2 + utf8(entry.getKey()).length + 2 + utf8(entry.getValue().hash()).length + 16;
+        }
+        int dataLength = 0;
+        for (Entry entry : entries.values()) {
+            dataLength += entry.json().length + (entry.gzip() == null ? 0 : entry.gzip().length);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + indexLength + dataLength);
+        out.position(HEADER_SIZE);
+        int offset = HEADER_SIZE + indexLength;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            putString(out, entry.getKey());
+            putString(out, value.hash());
+            out.putInt(offset).putInt(value.json().length);
+            offset += value.json().length;
+            if (value.gzip() == null) {
+                out.putInt(0).putInt(-1);
+            } else {
+                out.putInt(offset).putInt(value.gzip().length);
+                offset += value.gzip().length;
+            }
+        }
+        for (Entry entry : entries.values()) {
+            out.put(entry.json());
+            if (entry.gzip() != null) {
+                out.put(entry.gzip());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), HEADER_SIZE, out.capacity() - HEADER_SIZE);
+        out.position(0);
+        out.put(MAGIC)
+                .putLong(createdAt.toEpochMilli())
+                .putInt(entries.size())
+                .putInt(indexLength)
+                .putInt((int) crc.getValue());
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                out.rewind();
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Map {@code path} and parse its index.
+     *
+     * @throws IOException if the file cannot be read or is not an intact snapshot
+     */
+    public static SnapshotFile open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new IOException("Snapshot too short: " + path);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a snapshot file: " + path);
+        }
+        Instant createdAt = Instant.ofEpochMilli(buffer.getLong(8));
+        int count = buffer.getInt(16);
+        int indexLength = buffer.getInt(20);
+        int expectedCrc = buffer.getInt(24);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("Snapshot checksum mismatch: " + path);
+        }
+
+        ByteBuffer in = buffer.slice(HEADER_SIZE, indexLength);
+        Map<String, Slot> index = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String key = getString(in);
+            String hash = getString(in);
+            index.put(key, new Slot(hash, in.getInt(), in.getInt(), in.getInt(), in.getInt()));
+        }
+        return new SnapshotFile(buffer, index, createdAt);
+    }
+
+    public Optional<Entry> get(String key) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        byte[] json = new byte[slot.jsonLength()];
+        buffer.get(slot.jsonOffset(), json);
+        byte[] gzip = null;
+        if (slot.gzipLength() >= 0) {
+            gzip = new byte[slot.gzipLength()];
+            buffer.get(slot.gzipOffset(), gzip);
+        }
+        return Optional.of(new Entry(json, gzip, slot.hash()));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = utf8(value);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Snapshot key too long: " + value.substring(0, 64) + "...");
+        }
+        return bytes;
+    }
+
+    private record Slot(String hash, int jsonOffset, int jsonLength, int gzipOffset, int gzipLength) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.portfolio.backend.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the current {@link SnapshotFile}. The file left by the previous run is mapped at
+ * startup, so reads can fall back to it even if the database is down from the start.
+ * <p>
+ * In serve mode ({@code portfolio.snapshot.serve=true}) reads are answered from the snapshot
+ * while it is fresh, i.e. no content has changed since it was written. As a fallback it is used
+ * whenever it exists, stale or not: old content beats an error page.
+ */
+@Component
+@Slf4j
+public class SnapshotStore {
+
+    private final Path path;
+    private final boolean enabled;
+    private final boolean serve;
+
+    private volatile SnapshotFile current;
+    private volatile boolean fresh;
+
+    public SnapshotStore(@Value("${portfolio.snapshot.enabled:true}") boolean enabled,
+                         @Value("${portfolio.snapshot.serve:false}") boolean serve,
+                         @Value("${portfolio.snapshot.path:${java.io.tmpdir}/portfolio-snapshot.bin}") Path path) {
+        this.enabled = enabled;
+        this.serve = serve;
+        this.path = path;
+        if (enabled && Files.exists(path)) {
+            try {
+                current = SnapshotFile.open(path);
+                log.info("Loaded snapshot from {} ({} entries, written {})", path, current.size(), current.createdAt());
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable snapshot {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The entry to serve instead of loading, if serve mode is on and the snapshot is fresh.
+     */
+    public Optional<SnapshotFile.Entry> serve(String key) {
+        SnapshotFile snapshot = current;
+        if (!serve || !fresh || snapshot == null) {
+            return Optional.empty();
+        }
+        return snapshot.get(key);
+    }
+
+    /**
+     * The last exported entry for {@code key}, for use when loading it failed.
+     */
+    public Optional<SnapshotFile.Entry> fallback(String key) {
+        SnapshotFile snapshot = current;
+        return snapshot == null ? Optional.empty() : snapshot.get(key);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Switch to a newly written snapshot; {@code upToDate} is false if content changed while it
+     * was being exported.
+     */
+    void replace(SnapshotFile snapshot, boolean upToDate) {
+        current = snapshot;
+        fresh = upToDate;
+    }
+
+    void markStale() {
+        fresh = false;
+    }
+
+    public Status status() {
+        SnapshotFile snapshot = current;
+        if (snapshot == null) {
+            return new Status(path.toString(), serve, false, null, 0, 0);
+        }
+        return new Status(path.toString(), serve, fresh, snapshot.createdAt(), snapshot.size(), snapshot.sizeInBytes());
+    }
+
+    public record Status(String path, boolean serve, boolean fresh, Instant createdAt, int entries, long bytes) {
+    }
+}
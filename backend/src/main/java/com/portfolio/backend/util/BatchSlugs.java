@@ -0,0 +1,39 @@
+package com.portfolio.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normalizes the {@code slugs} parameter of the batch endpoints, given comma separated or
+ * repeated: trimmed, blanks and repeats dropped, first-occurrence order kept, and at most
+ * {@link #MAX_SLUGS} of them.
+ */
+@UtilityClass
+public class BatchSlugs {
+
+    public static final int MAX_SLUGS = 50;
+
+    public static List<String> parse(List<String> raw) {
+        Set<String> slugs = new LinkedHashSet<>();
+        if (raw != null) {
+            for (String value : raw) {
+                // Spring splits a single parameter on commas, but not repeated ones
+                for (String slug : value == null ? new String[0] : value.split(",")) {
+                    if (!slug.isBlank()) {
+                        slugs.add(slug.strip());
+                    }
+                }
+            }
+        }
+        if (slugs.isEmpty()) {
+            throw new InvalidRequestException("'slugs' must name at least one slug");
+        }
+        if (slugs.size() > MAX_SLUGS) {
+            throw new InvalidRequestException("At most " + MAX_SLUGS + " slugs per request, got " + slugs.size());
+        }
+        return List.copyOf(slugs);
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.backend.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursors.
+ * Blog cursors carry {@code (publishedAt, id)}; project cursors carry {@code id}.
+ * An empty or missing cursor means "start from the first row".
+ */
+@UtilityClass
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encodeBlogCursor(LocalDateTime publishedAt, Long id) {
+        return encode(publishedAt + "|" + id);
+    }
+
+    public static ScrollPosition decodeBlogCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts = decode(cursor).split("\\|", 2);
+        if (parts.length != 2) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        try {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("publishedAt", LocalDateTime.parse(parts[0]));
+            keys.put("id", Long.valueOf(parts[1]));
+            return ScrollPosition.forward(keys);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public static String encodeProjectCursor(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static ScrollPosition decodeProjectCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            return ScrollPosition.forward(Map.of("id", Long.valueOf(decode(cursor))));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    private static String encode(String raw) {
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.portfolio.backend.util;
 
 import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.BlogSummaryDTO;
 import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.dto.TagCountDTO;
 import com.portfolio.backend.model.Blog;
 import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogSummaryView;
+import com.portfolio.backend.search.SearchHit;
+import com.portfolio.backend.search.TagIndex;
 import lombok.experimental.UtilityClass;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @UtilityClass
@@ -24,6 +31,10 @@ public class DtoConverter {
                 .tags(splitCommaSeparated(blog.getTags()))
                 .imageUrl(blog.getImageUrl())
                 .publishedAt(blog.getPublishedAt())
+                .contentHtml(blog.getContentHtml())
+                .toc(blog.getToc())
+                .wordCount(blog.getWordCount())
+                .readingTimeMinutes(blog.getReadingTimeMinutes())
                 .build();
     }
 
@@ -31,6 +42,36 @@ public class DtoConverter {
         return blogs.stream().map(DtoConverter::toDTO).collect(Collectors.toList());
     }
 
+    public static BlogSummaryDTO toSummaryDTO(BlogSummaryView blog) {
+        return BlogSummaryDTO.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .excerpt(blog.getExcerpt())
+                .tags(splitCommaSeparated(blog.getTags()))
+                .imageUrl(blog.getImageUrl())
+                .publishedAt(blog.getPublishedAt())
+                .readingTimeMinutes(blog.getReadingTimeMinutes())
+                .build();
+    }
+
+    public static BlogSummaryDTO toSummaryDTO(BlogDTO blog) {
+        return BlogSummaryDTO.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .excerpt(blog.getExcerpt())
+                .tags(blog.getTags())
+                .imageUrl(blog.getImageUrl())
+                .publishedAt(blog.getPublishedAt())
+                .readingTimeMinutes(blog.getReadingTimeMinutes())
+                .build();
+    }
+
+    public static List<BlogSummaryDTO> toBlogSummaryDTOList(List<BlogSummaryView> blogs) {
+        return blogs.stream().map(DtoConverter::toSummaryDTO).collect(Collectors.toList());
+    }
+
     public static ProjectDTO toDTO(Project project) {
         return ProjectDTO.builder()
                 .id(project.getId())
@@ -41,6 +82,7 @@ public class DtoConverter {
                 .githubUrl(project.getGithubUrl())
                 .liveDemoUrl(project.getLiveDemoUrl())
                 .imageUrl(project.getImageUrl())
+                .featured(project.isFeatured())
                 .build();
     }
 
@@ -48,7 +90,24 @@ public class DtoConverter {
         return projects.stream().map(DtoConverter::toDTO).collect(Collectors.toList());
     }
 
-    private static List<String> splitCommaSeparated(String value) {
+    public static SearchResultDTO toDTO(SearchHit hit) {
+        return SearchResultDTO.builder()
+                .type(hit.type().name().toLowerCase(Locale.ROOT))
+                .id(hit.entityId())
+                .slug(hit.slug())
+                .title(hit.title())
+                .summary(hit.summary())
+                .score(hit.score())
+                .build();
+    }
+
+    public static List<TagCountDTO> toTagCountDTOList(List<TagIndex.TagCount> counts) {
+        return counts.stream()
+                .map(c -> TagCountDTO.builder().tag(c.tag()).count(c.count()).build())
+                .collect(Collectors.toList());
+    }
+
+    public static List<String> splitCommaSeparated(String value) {
         if (value == null || value.isBlank()) return Collections.emptyList();
         return Arrays.stream(value.split(","))
                 .map(String::trim)
@@ -0,0 +1,11 @@
+package com.portfolio.backend.util;
+
+/**
+ * Thrown when a pagination cursor supplied by a client cannot be decoded.
+ */
+public class InvalidCursorException extends InvalidRequestException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
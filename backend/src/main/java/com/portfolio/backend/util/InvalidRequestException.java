@@ -0,0 +1,11 @@
+package com.portfolio.backend.util;
+
+/**
+ * Thrown for malformed client input that should be answered with 400 rather than 500.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
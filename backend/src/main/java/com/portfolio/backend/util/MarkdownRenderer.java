@@ -0,0 +1,103 @@
+package com.portfolio.backend.util;
+
+import com.portfolio.backend.model.TocEntry;
+import lombok.experimental.UtilityClass;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.IdGenerator;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.AttributeProvider;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders blog Markdown to HTML once, at write time. Raw HTML in the source is escaped and
+ * link/image URLs are sanitized, so the output is safe to inject into a page. Headings get
+ * stable {@code id} anchors that the returned table of contents points at.
+ */
+@UtilityClass
+public class MarkdownRenderer {
+
+    public static final int WORDS_PER_MINUTE = 200;
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+    private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
+    private static final TextContentRenderer TEXT_RENDERER = TextContentRenderer.builder().build();
+
+    public record Rendered(String html, List<TocEntry> toc, int wordCount, int readingTimeMinutes) {
+    }
+
+    public static Rendered render(String markdown) {
+        Node document = PARSER.parse(markdown == null ? "" : markdown);
+
+        IdGenerator ids = IdGenerator.builder().build();
+        Map<Node, String> anchors = new IdentityHashMap<>();
+        List<TocEntry> toc = new ArrayList<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading);
+                String anchor = ids.generateId(text);
+                anchors.put(heading, anchor);
+                toc.add(new TocEntry(heading.getLevel(), text, anchor));
+            }
+        });
+
+        AttributeProvider anchorProvider = (node, tagName, attributes) -> {
+            String anchor = anchors.get(node);
+            if (anchor != null) {
+                attributes.put("id", anchor);
+            }
+        };
+        String html = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> anchorProvider)
+                .build()
+                .render(document);
+
+        int words = countWords(TEXT_RENDERER.render(document));
+        int minutes = words == 0 ? 0 : Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+        return new Rendered(html, toc, words, minutes);
+    }
+
+    static int countWords(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    private static String textOf(Node node) {
+        StringBuilder text = new StringBuilder();
+        node.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text t) {
+                text.append(t.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                text.append(code.getLiteral());
+            }
+        });
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Checks the {@code page} and {@code size} parameters of the list endpoints before they reach
+ * {@code PageRequest} or {@code Limit}, which throw on values out of range: a negative page or a
+ * size below one is a 400, and a size above {@link #MAX_SIZE} is cut down to it.
+ */
+@UtilityClass
+public class PageParams {
+
+    public static final int MAX_SIZE = 50;
+
+    public static int page(int page) {
+        if (page < 0) {
+            throw new InvalidRequestException("'page' must not be negative, got " + page);
+        }
+        return page;
+    }
+
+    public static int size(int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("'size' must be at least 1, got " + size);
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
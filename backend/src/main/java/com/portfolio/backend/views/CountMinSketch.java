@@ -0,0 +1,116 @@
+package com.portfolio.backend.views;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate weighted counts for an unbounded set of string keys in {@code depth × width}
+ * cells. An estimate never undercounts; it overcounts by at most {@code e/width} of the total
+ * weight with probability {@code 1 - e^-depth}. Updates are conservative (only the cells at the
+ * current minimum grow), which keeps the overcount well below that bound for skewed traffic.
+ * <p>
+ * {@link #add} and {@link #estimate} are lock-free: cells hold a double's bits and are raised by
+ * CAS, and an add that loses a race on any cell starts over from fresh values, so concurrent adds
+ * of one key are never lost. {@link #scale} must not run concurrently with them.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray[] cells;
+
+    /**
+     * @param width cells per row, rounded up to a power of two
+     * @param depth rows, each with its own hash
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+        int rounded = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.mask = rounded - 1;
+        this.cells = new AtomicLongArray[depth];
+        for (int row = 0; row < depth; row++) {
+            cells[row] = new AtomicLongArray(rounded);
+        }
+    }
+
+    /**
+     * Add {@code weight} to {@code key}.
+     *
+     * @return the key's estimate after the update
+     */
+    public double add(String key, double weight) {
+        long hash = hash(key);
+        int[] indexes = new int[depth];
+        long[] seen = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = index(hash, row);
+        }
+        while (true) {
+            double estimate = Double.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                seen[row] = cells[row].get(indexes[row]);
+                estimate = Math.min(estimate, Double.longBitsToDouble(seen[row]));
+            }
+            double updated = estimate + weight;
+            if (raise(indexes, seen, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    // Raise every cell below the target, failing if any cell moved since it was read
+    private boolean raise(int[] indexes, long[] seen, double updated) {
+        long bits = Double.doubleToRawLongBits(updated);
+        for (int row = 0; row < depth; row++) {
+            if (Double.longBitsToDouble(seen[row]) < updated
+                    && !cells[row].compareAndSet(indexes[row], seen[row], bits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double estimate(String key) {
+        long hash = hash(key);
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, Double.longBitsToDouble(cells[row].get(index(hash, row))));
+        }
+        return estimate;
+    }
+
+    /**
+     * Multiply every cell by {@code factor}, as estimates scale linearly.
+     */
+    public void scale(double factor) {
+        for (AtomicLongArray row : cells) {
+            for (int i = 0; i < row.length(); i++) {
+                row.set(i, Double.doubleToRawLongBits(Double.longBitsToDouble(row.get(i)) * factor));
+            }
+        }
+    }
+
+    // Row hashes are h1 + row * h2 (Kirsch-Mitzenmacher), both halves taken from one 64-bit hash
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & mask;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mixer
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
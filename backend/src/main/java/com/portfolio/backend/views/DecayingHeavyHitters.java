@@ -0,0 +1,175 @@
+package com.portfolio.backend.views;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The most frequent keys of an event stream, with each event's weight halving every
+ * {@code halfLife}. Memory is fixed: a {@link CountMinSketch} estimates every key's decayed
+ * count, and at most {@code capacity} candidate keys are remembered, a new key replacing the
+ * weakest candidate once its estimate overtakes it. Recording and ranking both cost a bounded
+ * number of steps however many distinct keys or events there are.
+ * <p>
+ * Decay is applied forward: an event at time {@code t} adds {@code 2^((t - landmark) / halfLife)},
+ * so older counts never need touching, and scores are divided by the same factor for
+ * {@code now} when read. When the factor gets large the landmark moves to the present and
+ * everything is rescaled once.
+ * <p>
+ * Recording takes no exclusive lock: the sketch update is lock-free and candidates live in a
+ * {@link ConcurrentHashMap}. A new key is compared with a floor, a lower bound on the weakest
+ * candidate's estimate, so the long tail of keys that cannot get in is turned away in constant
+ * time; only a key that beats the floor scans the candidates, under a lock of its own. A
+ * {@link StampedLock} is held shared by every reader and writer and exclusively only to rescale.
+ */
+public class DecayingHeavyHitters {
+
+    private static final double RESCALE_ABOVE = 1e12;
+
+    public record Entry(String key, double score) {
+    }
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final LongSupplier clock;
+
+    // Shared by record and top, exclusive for rescale, which moves the landmark and every score
+    private final StampedLock scale = new StampedLock();
+    // Serializes admissions of new candidates, so the candidate count never exceeds capacity
+    private final ReentrantLock admission = new ReentrantLock();
+
+    // Candidate keys with the sketch estimate at their last event, in landmark scale
+    private final Map<String, Double> candidates = new ConcurrentHashMap<>();
+    // No candidate's estimate is below this; written under admission or while rescaling
+    private volatile double floor;
+    private volatile long landmarkMillis;
+
+    public DecayingHeavyHitters(int width, int depth, int capacity, Duration halfLife) {
+        this(width, depth, capacity, halfLife, System::currentTimeMillis);
+    }
+
+    DecayingHeavyHitters(int width, int depth, int capacity, Duration halfLife, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.sketch = new CountMinSketch(width, depth);
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.clock = clock;
+        this.landmarkMillis = clock.getAsLong();
+    }
+
+    public void record(String key) {
+        long now = clock.getAsLong();
+        if (growth(now) > RESCALE_ABOVE) {
+            rescale(now);
+        }
+        long stamp = scale.readLock();
+        try {
+            double estimate = sketch.add(key, growth(now));
+            if (candidates.computeIfPresent(key, (k, previous) -> Math.max(previous, estimate)) == null
+                    && (candidates.size() < capacity || estimate > floor)) {
+                admit(key, estimate);
+            }
+        } finally {
+            scale.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Up to {@code limit} keys (at most {@code capacity}), highest decayed count first. Scores are
+     * in events, each counted at its weight now: an event one half-life old counts {@code 0.5}.
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> ranked = new ArrayList<>(capacity);
+        long stamp = scale.readLock();
+        try {
+            double decay = growth(clock.getAsLong());
+            for (String key : candidates.keySet()) {
+                ranked.add(new Entry(key, sketch.estimate(key) / decay));
+            }
+        } finally {
+            scale.unlockRead(stamp);
+        }
+        ranked.sort(Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::key));
+        return List.copyOf(ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size())));
+    }
+
+    /**
+     * Drop a key from the ranking, e.g. because it was deleted. Its estimate stays in the sketch
+     * and decays away.
+     */
+    public void remove(String key) {
+        candidates.remove(key);
+    }
+
+    /**
+     * Add {@code key} as a candidate, replacing the weakest one if the table is full and the
+     * weakest is below {@code estimate}. Every scan raises the floor to the weakest estimate
+     * left, so the next scan needs an estimate above that.
+     */
+    private void admit(String key, double estimate) {
+        admission.lock();
+        try {
+            if (candidates.containsKey(key)) {
+                candidates.merge(key, estimate, Math::max);
+                return;
+            }
+            if (candidates.size() < capacity) {
+                candidates.put(key, estimate);
+                floor = Math.min(floor, estimate);
+                return;
+            }
+            String weakest = null;
+            double weakestEstimate = Double.MAX_VALUE;
+            double runnerUp = Double.MAX_VALUE;
+            for (Map.Entry<String, Double> candidate : candidates.entrySet()) {
+                double value = candidate.getValue();
+                if (value < weakestEstimate) {
+                    runnerUp = weakestEstimate;
+                    weakest = candidate.getKey();
+                    weakestEstimate = value;
+                } else if (value < runnerUp) {
+                    runnerUp = value;
+                }
+            }
+            if (estimate > weakestEstimate) {
+                candidates.remove(weakest);
+                candidates.put(key, estimate);
+                floor = Math.min(runnerUp, estimate);
+            } else {
+                floor = weakestEstimate;
+            }
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    private double growth(long now) {
+        return Math.pow(2, (now - landmarkMillis) / halfLifeMillis);
+    }
+
+    private void rescale(long now) {
+        long stamp = scale.writeLock();
+        try {
+            double weight = growth(now);
+            if (weight <= RESCALE_ABOVE) {
+                return;
+            }
+            double factor = 1 / weight;
+            sketch.scale(factor);
+            candidates.replaceAll((key, estimate) -> estimate * factor);
+            floor *= factor;
+            landmarkMillis = now;
+        } finally {
+            scale.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.portfolio.backend.views;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trending blogs, projects and referring sites, ranked by views with exponential time decay
+ * ({@code portfolio.trending.half-life}). Each stream is a {@link DecayingHeavyHitters}, so
+ * memory stays fixed whatever the traffic and nothing is kept per event.
+ */
+@Component
+public class TrendingContent {
+
+    private static final int MAX_HOST_LENGTH = 253;
+
+    private final Map<ViewCounter.Kind, DecayingHeavyHitters> views = new EnumMap<>(ViewCounter.Kind.class);
+    private final DecayingHeavyHitters referrers;
+
+    public TrendingContent(@Value("${portfolio.trending.half-life:3d}") Duration halfLife,
+                           @Value("${portfolio.trending.sketch-width:2048}") int width,
+                           @Value("${portfolio.trending.sketch-depth:4}") int depth,
+                           @Value("${portfolio.trending.capacity:50}") int capacity) {
+        for (ViewCounter.Kind kind : ViewCounter.Kind.values()) {
+            views.put(kind, new DecayingHeavyHitters(width, depth, capacity, halfLife));
+        }
+        this.referrers = new DecayingHeavyHitters(width, depth, capacity, halfLife);
+    }
+
+    /**
+     * Record a view of {@code slug} if the response served it, and the site that referred it
+     * when the {@code Referer} is another host.
+     */
+    public void recordView(ViewCounter.Kind kind, String slug, ResponseEntity<?> response, WebRequest request) {
+        if (!ViewCounter.served(response)) {
+            return;
+        }
+        views.get(kind).record(slug);
+        String host = referrerHost(request.getHeader(HttpHeaders.REFERER));
+        if (host != null && !host.equals(normalizeHost(request.getHeader(HttpHeaders.HOST)))) {
+            referrers.record(host);
+        }
+    }
+
+    public List<DecayingHeavyHitters.Entry> top(ViewCounter.Kind kind, int limit) {
+        return views.get(kind).top(limit);
+    }
+
+    public List<DecayingHeavyHitters.Entry> topReferrers(int limit) {
+        return referrers.top(limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.action() != ContentChangedEvent.Action.DELETED) {
+            return;
+        }
+        if (event.entity() instanceof Blog blog) {
+            views.get(ViewCounter.Kind.BLOG).remove(blog.getSlug());
+        } else if (event.entity() instanceof Project project) {
+            views.get(ViewCounter.Kind.PROJECT).remove(project.getSlug());
+        }
+    }
+
+    private static String referrerHost(String referer) {
+        if (referer == null || referer.isBlank()) {
+            return null;
+        }
+        try {
+            return normalizeHost(URI.create(referer.strip()).getHost());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String normalizeHost(String host) {
+        if (host == null || host.isEmpty() || host.length() > MAX_HOST_LENGTH) {
+            return null;
+        }
+        String normalized = host.toLowerCase(Locale.ROOT);
+        int port = normalized.lastIndexOf(':');
+        if (port > 0 && normalized.indexOf(']') < port) {
+            normalized = normalized.substring(0, port);
+        }
+        return normalized.startsWith("www.") ? normalized.substring(4) : normalized;
+    }
+}
@@ -0,0 +1,258 @@
+package com.portfolio.backend.views;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts blog and project views without touching the database on the read path. A view
+ * increments a {@link LongAdder} per slug; every {@code portfolio.views.flush-interval} the
+ * accumulated deltas are drained and added to the {@code view_count} columns with one batched
+ * statement per table.
+ * <p>
+ * Each drained batch gets an id, stored in {@code view_count_flushes} in the same transaction as
+ * the increments. A batch whose transaction fails is kept and retried with the same id, so a
+ * commit that succeeded but was reported as failed is not applied twice. Pending views are
+ * flushed on shutdown; a crash loses at most one interval of views and never counts one twice.
+ * <p>
+ * Totals are the stored counts, reloaded after every flush (picking up other instances' views),
+ * plus whatever this instance has not yet written.
+ */
+@Component
+@Slf4j
+public class ViewCounter {
+
+    // Markers only need to outlive the retries of their batch, which happen every interval
+    private static final Duration MARKER_RETENTION = Duration.ofDays(1);
+
+    public enum Kind {
+        BLOG("blog"),
+        PROJECT("projects");
+
+        private final String table;
+
+        Kind(String table) {
+            this.table = table;
+        }
+    }
+
+    public record ViewCount(String slug, long views) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Kind, ConcurrentHashMap<String, LongAdder>> pending = new EnumMap<>(Kind.class);
+    // Replaced as a whole, so a reader never sees a batch both in the stored counts and unflushed
+    private volatile Snapshot snapshot = new Snapshot(emptyCounts(), null);
+
+    public ViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        for (Kind kind : Kind.values()) {
+            pending.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Count a view of {@code slug} if the response served it, fresh or as a {@code 304}.
+     */
+    public void recordView(Kind kind, String slug, ResponseEntity<?> response) {
+        if (served(response)) {
+            pending.get(kind).computeIfAbsent(slug, s -> new LongAdder()).increment();
+        }
+    }
+
+    static boolean served(ResponseEntity<?> response) {
+        return response.getStatusCode().is2xxSuccessful() || response.getStatusCode() == HttpStatus.NOT_MODIFIED;
+    }
+
+    public long views(Kind kind, String slug) {
+        Snapshot current = snapshot;
+        long views = current.stored().get(kind).getOrDefault(slug, 0L);
+        Batch batch = current.unflushed();
+        if (batch != null) {
+            views += batch.deltas().get(kind).getOrDefault(slug, 0L);
+        }
+        LongAdder adder = pending.get(kind).get(slug);
+        return adder == null ? views : views + adder.sum();
+    }
+
+    /**
+     * The {@code limit} most viewed slugs, most views first, ties by slug.
+     */
+    public List<ViewCount> top(Kind kind, int limit) {
+        Snapshot current = snapshot;
+        Map<String, Long> totals = new HashMap<>(current.stored().get(kind));
+        Batch batch = current.unflushed();
+        if (batch != null) {
+            batch.deltas().get(kind).forEach((slug, views) -> totals.merge(slug, views, Long::sum));
+        }
+        pending.get(kind).forEach((slug, adder) -> totals.merge(slug, adder.sum(), Long::sum));
+        return totals.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new ViewCount(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(ViewCount::views).reversed().thenComparing(ViewCount::slug))
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadStoredCounts() {
+        try {
+            snapshot = new Snapshot(readStoredCounts(), snapshot.unflushed());
+        } catch (DataAccessException e) {
+            log.warn("Could not load stored view counts, retrying on the next flush: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.views.flush-interval:30s}",
+            initialDelayString = "${portfolio.views.flush-interval:30s}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Write the views counted since the last successful flush. A failed batch stays pending and
+     * is retried first on the next call; views counted meanwhile wait for the batch after it.
+     *
+     * @return whether everything drained so far is now stored
+     */
+    public synchronized boolean flush() {
+        Batch batch = snapshot.unflushed();
+        if (batch == null) {
+            batch = drain();
+            snapshot = new Snapshot(snapshot.stored(), batch);
+        }
+        try {
+            if (!batch.isEmpty()) {
+                boolean applied = apply(batch);
+                log.debug("Flushed view counts batch {} ({})", batch.id(), applied ? "applied" : "already applied");
+            }
+            snapshot = new Snapshot(readStoredCounts(), null);
+            return true;
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not flush view counts, keeping batch {} for the next attempt: {}",
+                    batch.id(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Add one batch's deltas unless its marker shows an earlier attempt already committed it.
+     *
+     * @return {@code false} if the batch had already been applied
+     */
+    boolean apply(Batch batch) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            Integer seen = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM view_count_flushes WHERE id = ?", Integer.class, batch.id());
+            if (seen != null && seen > 0) {
+                return false;
+            }
+            batch.deltas().forEach((kind, deltas) -> {
+                if (deltas.isEmpty()) {
+                    return;
+                }
+                List<Object[]> args = new ArrayList<>(deltas.size());
+                deltas.forEach((slug, views) -> args.add(new Object[]{views, slug}));
+                jdbcTemplate.batchUpdate("UPDATE " + kind.table + " SET view_count = view_count + ? WHERE slug = ?", args);
+            });
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("INSERT INTO view_count_flushes (id, flushed_at) VALUES (?, ?)",
+                    batch.id(), Timestamp.valueOf(now));
+            jdbcTemplate.update("DELETE FROM view_count_flushes WHERE flushed_at < ?",
+                    Timestamp.valueOf(now.minus(MARKER_RETENTION)));
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.action() != ContentChangedEvent.Action.DELETED) {
+            return;
+        }
+        // A deleted row's pending views have nowhere to go; its stored count leaves on the next reload
+        if (event.entity() instanceof Blog blog) {
+            pending.get(Kind.BLOG).remove(blog.getSlug());
+        } else if (event.entity() instanceof Project project) {
+            pending.get(Kind.PROJECT).remove(project.getSlug());
+        }
+    }
+
+    private Batch drain() {
+        Map<Kind, Map<String, Long>> deltas = emptyCounts();
+        pending.forEach((kind, adders) -> adders.forEach((slug, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                deltas.get(kind).put(slug, views);
+            }
+        }));
+        return new Batch(UUID.randomUUID().toString(), deltas);
+    }
+
+    private Map<Kind, Map<String, Long>> readStoredCounts() {
+        Map<Kind, Map<String, Long>> counts = emptyCounts();
+        for (Kind kind : Kind.values()) {
+            Map<String, Long> byKind = counts.get(kind);
+            jdbcTemplate.query("SELECT slug, view_count FROM " + kind.table + " WHERE view_count > 0",
+                    rs -> {
+                        byKind.put(rs.getString("slug"), rs.getLong("view_count"));
+                    });
+        }
+        return counts;
+    }
+
+    private static Map<Kind, Map<String, Long>> emptyCounts() {
+        Map<Kind, Map<String, Long>> counts = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            counts.put(kind, new HashMap<>());
+        }
+        return counts;
+    }
+
+    /**
+     * Stored counts as last read, and the drained batch not yet known to be part of them.
+     */
+    private record Snapshot(Map<Kind, Map<String, Long>> stored, Batch unflushed) {
+    }
+
+    record Batch(String id, Map<Kind, Map<String, Long>> deltas) {
+
+        boolean isEmpty() {
+            return deltas.values().stream().allMatch(Map::isEmpty);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.portfolio.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void get_LoadsOnceAndCountsHitsAndMisses() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", k -> k + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.get("a", k -> k + loads.incrementAndGet())).isEqualTo("a1");
+
+        CacheStats stats = cache.stats();
+        assertThat(loads).hasValue(1);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 2, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.getIfPresent("a");
+        cache.put("c", "3");
+
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("a")).isEqualTo("1");
+        assertThat(cache.getIfPresent("c")).isEqualTo("3");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void getIfPresent_ExpiresEntriesAfterTtl() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofSeconds(5), clock::get);
+        cache.put("a", "1");
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(cache.getIfPresent("a")).isEqualTo("1");
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void get_DoesNotCacheNullResults() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+        assertThat(cache.get("missing", k -> null)).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void get_DoesNotCacheALoadThatOverlapsAnInvalidation() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        // The content changes while the slow loader is still reading the old row
+        String stale = cache.get("a", key -> {
+            loads.incrementAndGet();
+            cache.invalidateAll();
+            return "before-edit";
+        });
+        String fresh = cache.get("a", key -> {
+            loads.incrementAndGet();
+            return "after-edit";
+        });
+
+        assertThat(stale).isEqualTo("before-edit");
+        assertThat(fresh).isEqualTo("after-edit");
+        assertThat(cache.getIfPresent("a")).isEqualTo("after-edit");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void putIfGeneration_SkipsValuesLoadedBeforeAnInvalidation() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+        long seen = cache.generation();
+        cache.invalidateAll();
+
+        assertThat(cache.putIfGeneration("a", "before-edit", seen)).isFalse();
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.putIfGeneration("a", "after-edit", cache.generation())).isTrue();
+        assertThat(cache.getIfPresent("a")).isEqualTo("after-edit");
+    }
+}
@@ -0,0 +1,30 @@
+package com.portfolio.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    private final ResponseBodyCache.Rendered rendered =
+            new ResponseBodyCache.Rendered(new byte[0], null, "\"abc\"", "\"abc-gz\"");
+
+    @Test
+    void acceptsGzip_HonoursQualityValues() {
+        assertThat(ResponseBodyCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("br;q=1.0, gzip;q=0.5")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("*")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void matches_AcceptsEitherEncodingTagListsAndWildcard() {
+        assertThat(ResponseBodyCache.matches("\"abc\"", rendered)).isTrue();
+        assertThat(ResponseBodyCache.matches("\"other\", W/\"abc-gz\"", rendered)).isTrue();
+        assertThat(ResponseBodyCache.matches("*", rendered)).isTrue();
+        assertThat(ResponseBodyCache.matches("\"other\"", rendered)).isFalse();
+        assertThat(ResponseBodyCache.matches(null, rendered)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.prometheus.metrics.export.enabled=true")
+@AutoConfigureMockMvc
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.findBySlug("metrics-blog").ifPresent(blogRepository::delete);
+        Blog blog = new Blog();
+        blog.setTitle("Metrics");
+        blog.setSlug("metrics-blog");
+        blog.setContent("Latency histograms.");
+        blog.setExcerpt("Metrics");
+        blog.setTags("Observability");
+        blogRepository.save(blog);
+    }
+
+    @Test
+    void prometheus_ExposesHotPathTimersAndCacheCounters() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs/metrics-blog")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_count{")
+                .contains("uri=\"/api/v1/blogs/{slug}\"")
+                .contains("portfolio_service_seconds_count{")
+                .contains("class=\"com.portfolio.backend.service.CachingBlogService\"")
+                .contains("method=\"getBlogBySlug\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("portfolio_cache_misses_total{")
+                .contains("cache=\"blogs.bySlug\"")
+                .contains("portfolio_ratelimit_requests_total{");
+    }
+}
@@ -0,0 +1,68 @@
+package com.portfolio.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Both pools point at the same in-memory database, standing in for a replica with no lag;
+ * each pool tags its connections so the test can tell which one served a transaction.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.connection-init-sql=SET @POOL = 'primary'",
+    "portfolio.datasource.replica.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1",
+    "portfolio.datasource.replica.hikari.connection-init-sql=SET @POOL = 'replica'",
+    "portfolio.datasource.replica.hikari.connection-timeout=250",
+    "portfolio.datasource.replica.read-after-write-window=0s"
+})
+@AutoConfigureMockMvc
+class ReadReplicaConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Test
+    void transactions_ReadOnlyUseReplicaPool_WritesUsePrimaryPool() throws Exception {
+        assertThat(poolFor(true)).isEqualTo("replica");
+        assertThat(poolFor(false)).isEqualTo("primary");
+        mockMvc.perform(get("/api/v1/blogs")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DirtiesContext
+    void readOnlyTransaction_ReplicaClosed_FallsBackToPrimary() throws Exception {
+        replica.close();
+
+        assertThat(poolFor(true)).isEqualTo("primary");
+        mockMvc.perform(get("/api/v1/projects")).andExpect(status().isOk());
+    }
+
+    private String poolFor(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT @POOL", String.class));
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for virtual-thread mode: with Tomcat capped at four platform threads, requests that
+ * block on I/O would run at most four at a time. On virtual threads all of them block together.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.threads.virtual.enabled=true",
+    "server.tomcat.threads.max=4"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadConcurrencyTest {
+
+    private static final int REQUESTS = 32;
+    private static final long BLOCK_MILLIS = 300;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BlockingController blockingController;
+
+    @BeforeEach
+    void reset() {
+        blockingController.inFlight.set(0);
+        blockingController.peak.set(0);
+    }
+
+    @Test
+    void blockingRequestsAreNotCappedByThreadPoolSize() {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/blocking")).build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        responses.forEach(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Four platform threads would need REQUESTS / 4 rounds of BLOCK_MILLIS each
+        assertThat(blockingController.peak.get()).isGreaterThan(4);
+        assertThat(elapsedMillis).isLessThan(REQUESTS / 4 * BLOCK_MILLIS);
+    }
+
+    @TestConfiguration
+    static class BlockingEndpointConfig {
+
+        @Bean
+        BlockingController blockingController() {
+            return new BlockingController();
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @GetMapping("/test/blocking")
+        String block() throws InterruptedException {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                // Stands in for a blocking call such as the Resend HTTP request
+                Thread.sleep(BLOCK_MILLIS);
+                return "ok";
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
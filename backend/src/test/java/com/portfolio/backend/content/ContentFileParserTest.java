@@ -0,0 +1,81 @@
+package com.portfolio.backend.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentFileParserTest {
+
+    @Test
+    void parse_ReadsFrontMatterAndBody() throws IOException {
+        ContentFile file = parse("blogs/first-post.md", """
+                ---
+                title: "Quotes: \\"escaped\\" and colons"
+                tags: [Java, Spring Boot]
+                publishedAt: 2026-05-16
+                # comments are ignored
+                ---
+
+                ## Heading
+
+                Body text.
+                """);
+
+        assertThat(file.slug()).isEqualTo("first-post");
+        assertThat(file.attribute("title")).isEqualTo("Quotes: \"escaped\" and colons");
+        assertThat(file.attribute("tags")).isEqualTo("Java, Spring Boot");
+        assertThat(file.dateTimeAttribute("publishedAt")).hasToString("2026-05-16T00:00");
+        assertThat(file.body()).isEqualTo("## Heading\n\nBody text.\n");
+        assertThat(file.hash()).hasSize(64);
+    }
+
+    @Test
+    void parse_HashFollowsFileBytes() throws IOException {
+        String text = "---\nslug: custom\n---\nBody\n";
+
+        assertThat(parse("blogs/a.md", text).hash()).isEqualTo(parse("blogs/b.md", text).hash());
+        assertThat(parse("blogs/a.md", text + " ").hash()).isNotEqualTo(parse("blogs/a.md", text).hash());
+        assertThat(parse("blogs/a.md", text).slug()).isEqualTo("custom");
+    }
+
+    @Test
+    void parse_RejectsUnclosedFrontMatterAndMissingFields() {
+        assertThatThrownBy(() -> parse("blogs/a.md", "---\ntitle: x\nBody\n"))
+                .isInstanceOf(InvalidContentException.class);
+        assertThatThrownBy(() -> parse("blogs/a.md", "---\nno separator\n---\n"))
+                .isInstanceOf(InvalidContentException.class);
+        assertThatThrownBy(() -> parse("blogs/a.md", "---\n---\n").requiredAttribute("title"))
+                .isInstanceOf(InvalidContentException.class);
+    }
+
+    @Test
+    void parse_LimitsTheBodyToTheColumnsUtf8Bytes() throws IOException {
+        String atLimit = "a".repeat(ContentFileParser.MAX_BODY_BYTES - 1);
+
+        assertThat(parse("blogs/a.md", "---\n---\n" + atLimit + "\n").body())
+                .hasSize(ContentFileParser.MAX_BODY_BYTES);
+        // Same number of characters, but the two-byte character puts it one byte over
+        assertThatThrownBy(() -> parse("blogs/a.md", "---\n---\n\u00e9" + atLimit.substring(1) + "\n"))
+                .isInstanceOf(InvalidContentException.class)
+                .hasMessageContaining("bytes");
+    }
+
+    @Test
+    void typeOf_UsesParentDirectory() {
+        assertThat(ContentFileParser.typeOf("blogs/a.md")).isEqualTo(ContentFile.Type.BLOG);
+        assertThat(ContentFileParser.typeOf("drop/2026/projects/b.md")).isEqualTo(ContentFile.Type.PROJECT);
+        assertThat(ContentFileParser.typeOf("blogs/images/c.md")).isNull();
+        assertThat(ContentFileParser.typeOf("blogs/a.png")).isNull();
+        assertThat(ContentFileParser.typeOf("README.md")).isNull();
+    }
+
+    private static ContentFile parse(String path, String text) throws IOException {
+        return ContentFileParser.parse(ContentFileParser.typeOf(path), path,
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -9,9 +9,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -48,6 +53,36 @@ class BlogControllerTest {
                 .andExpect(jsonPath("$.total").value(1));
     }
 
+    @Test
+    void getAllBlogs_SummaryViewOmitsContent() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].excerpt").value("Test excerpt"))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/blogs?view=full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].content").value("Test content"));
+    }
+
+    @Test
+    void getAllBlogs_WithCursor_OrdersByPublishedAtDescending() throws Exception {
+        Blog older = new Blog();
+        older.setTitle("Older Blog");
+        older.setSlug("older-blog");
+        older.setContent("Older content");
+        blogRepository.save(older);
+        blogRepository.findBySlug("test-blog").ifPresent(blog -> {
+            blog.setPublishedAt(LocalDateTime.now().plusDays(1));
+            blogRepository.save(blog);
+        });
+
+        mockMvc.perform(get("/api/v1/blogs?cursor=&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].slug").value("test-blog"))
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
     @Test
     void getBlogBySlug_ReturnsBlog() throws Exception {
         mockMvc.perform(get("/api/v1/blogs/test-blog"))
@@ -56,9 +91,168 @@ class BlogControllerTest {
                 .andExpect(jsonPath("$.tags").isArray());
     }
 
+    @Test
+    void getBlogBySlug_ReturnsPreRenderedHtmlOnRequest() throws Exception {
+        Blog blog = blogRepository.findBySlug("test-blog").orElseThrow();
+        blog.setContent("## Setup\n\nSome **bold** text.");
+        blogRepository.save(blog);
+
+        mockMvc.perform(get("/api/v1/blogs/test-blog"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.toc[0].anchor").value("setup"))
+                .andExpect(jsonPath("$.wordCount").value(4))
+                .andExpect(jsonPath("$.readingTimeMinutes").value(1))
+                .andExpect(jsonPath("$.contentHtml").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/blogs/test-blog?includeHtml=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contentHtml").value("<h2 id=\"setup\">Setup</h2>\n<p>Some <strong>bold</strong> text.</p>\n"));
+    }
+
+    @Test
+    void getBlogBySlug_ReflectsUpdatesAfterCaching() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs/test-blog"))
+                .andExpect(jsonPath("$.title").value("Test Blog"));
+
+        Blog blog = blogRepository.findBySlug("test-blog").orElseThrow();
+        blog.setTitle("Updated Blog");
+        blogRepository.save(blog);
+
+        mockMvc.perform(get("/api/v1/blogs/test-blog"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated Blog"));
+    }
+
+    @Test
+    void getBlogBySlug_WithMatchingEtag_Returns304UntilContentChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/blogs/test-blog"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/blogs/test-blog").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        Blog blog = blogRepository.findBySlug("test-blog").orElseThrow();
+        blog.setExcerpt("Changed excerpt");
+        blogRepository.save(blog);
+
+        String newEtag = mockMvc.perform(get("/api/v1/blogs/test-blog").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excerpt").value("Changed excerpt"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void getBlogBySlug_AcceptingGzip_ReturnsPrecompressedBody() throws Exception {
+        Blog blog = blogRepository.findBySlug("test-blog").orElseThrow();
+        blog.setContent("Long article body. ".repeat(200));
+        blogRepository.save(blog);
+
+        byte[] body = mockMvc.perform(get("/api/v1/blogs/test-blog").header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(result -> assertThat(result.getResponse().getHeaders("Vary")).contains("Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).contains("\"slug\":\"test-blog\"").contains("Long article body.");
+        }
+    }
+
+    @Test
+    void getBlogsBySlugs_ReturnsRequestOrderWithMisses() throws Exception {
+        Blog second = new Blog();
+        second.setTitle("Second Blog");
+        second.setSlug("second-blog");
+        second.setContent("Second content");
+        blogRepository.save(second);
+
+        mockMvc.perform(get("/api/v1/blogs/batch?slugs=second-blog,nope,test-blog,second-blog"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].title").value("Second Blog"))
+                .andExpect(jsonPath("$.items[1]").isEmpty())
+                .andExpect(jsonPath("$.items[2].title").value("Test Blog"))
+                .andExpect(jsonPath("$.items[2].contentHtml").doesNotExist())
+                .andExpect(jsonPath("$.missing[0]").value("nope"));
+
+        mockMvc.perform(get("/api/v1/blogs/batch?slugs=test-blog&includeHtml=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].contentHtml").value("<p>Test content</p>\n"));
+        mockMvc.perform(get("/api/v1/blogs/batch?slugs=,"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/blogs/batch"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("'slugs' must name at least one slug"));
+    }
+
+    @Test
+    void getAllBlogs_InvalidSize_Returns400AndLargeSizeIsCapped() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs?size=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("'size' must be at least 1, got 0"));
+        mockMvc.perform(get("/api/v1/blogs?cursor=&size=-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/blogs?tag=test&size=0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/blogs?page=-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/blogs?size=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(50));
+    }
+
+    @Test
+    void getAllBlogs_TagWithCursor_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs?tag=test&cursor="))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("'tag' cannot be combined with 'cursor'; page tag filters with 'page'"));
+    }
+
     @Test
     void getBlogBySlug_NotFound_Returns404() throws Exception {
         mockMvc.perform(get("/api/v1/blogs/non-existent"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getRelated_ReturnsSimilarPostsAnd404ForUnknownSlug() throws Exception {
+        Blog similar = new Blog();
+        similar.setTitle("Another Test Blog");
+        similar.setSlug("another-test-blog");
+        similar.setContent("More test content");
+        similar.setTags("test, blog");
+        blogRepository.save(similar);
+
+        mockMvc.perform(get("/api/v1/blogs/test-blog/related"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blogs[0].slug").value("another-test-blog"))
+                .andExpect(jsonPath("$.projects").isArray());
+
+        mockMvc.perform(get("/api/v1/blogs/non-existent/related"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTrendingBlogs_RanksByRecentViews() throws Exception {
+        Blog hot = new Blog();
+        hot.setTitle("Hot Blog");
+        hot.setSlug("hot-blog");
+        hot.setContent("Hot content");
+        blogRepository.save(hot);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/blogs/hot-blog")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/blogs/trending?limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].slug").value("hot-blog"))
+                .andExpect(jsonPath("$[0].trendingScore").isNumber())
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
 }
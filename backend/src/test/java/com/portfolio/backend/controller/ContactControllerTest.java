@@ -0,0 +1,55 @@
+package com.portfolio.backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "portfolio.contact.rate-limit.capacity=2",
+    "portfolio.contact.rate-limit.refill-interval=1m"
+})
+@AutoConfigureMockMvc
+class ContactControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void submit_Returns429WithRetryAfterOnceIpBudgetIsSpent() throws Exception {
+        submit("10.0.0.1", "a@example.com").andExpect(status().isOk());
+        submit("10.0.0.1", "b@example.com").andExpect(status().isOk());
+
+        submit("10.0.0.1", "c@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"))
+                .andExpect(jsonPath("$.error").exists());
+        submit("10.0.0.2", "c@example.com").andExpect(status().isOk());
+    }
+
+    @Test
+    void submit_LimitsSameEmailAcrossIps() throws Exception {
+        submit("10.0.1.1", "Same@Example.com").andExpect(status().isOk());
+        submit("10.0.1.2", "same@example.com").andExpect(status().isOk());
+
+        submit("10.0.1.3", "same@example.com").andExpect(status().isTooManyRequests());
+    }
+
+    private ResultActions submit(String ip, String email) throws Exception {
+        return mockMvc.perform(post("/api/v1/contact")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ada\",\"email\":\"" + email + "\",\"message\":\"Hello\"}"));
+    }
+}
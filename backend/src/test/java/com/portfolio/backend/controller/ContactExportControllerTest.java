@@ -0,0 +1,88 @@
+package com.portfolio.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "portfolio.admin.token=test-admin-token")
+@AutoConfigureMockMvc
+class ContactExportControllerTest {
+
+    private static final String EXPORT = "/api/v1/admin/contact-messages/export";
+    private static final String AUTH = "Bearer test-admin-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM contact_messages WHERE created_at < ?", LocalDateTime.of(2002, 1, 1, 0, 0));
+        insert("Ada", "ada@example.com", "First", LocalDateTime.of(2001, 1, 1, 9, 0));
+        insert("Bob, Jr.", "bob@example.com", "Says \"hi\"\nthen leaves", LocalDateTime.of(2001, 1, 2, 9, 0));
+        insert("Eve", "eve@example.com", "=HYPERLINK(\"x\")", LocalDateTime.of(2001, 1, 3, 9, 0));
+    }
+
+    @Test
+    void export_WithoutToken_Returns401() throws Exception {
+        mockMvc.perform(get(EXPORT))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer"));
+        mockMvc.perform(get(EXPORT).header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void export_Ndjson_StreamsRangeOldestFirst() throws Exception {
+        mockMvc.perform(get(EXPORT + "?from=2001-01-02T00:00:00&to=2001-01-03T09:00:00").header("Authorization", AUTH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"contact-messages.ndjson\""))
+                .andExpect(content().string(matchesPattern(
+                        "\\{\"id\":\\d+,\"name\":\"Bob, Jr.\",\"email\":\"bob@example.com\","
+                                + "\"message\":\"Says \\\\\"hi\\\\\"\\\\nthen leaves\",\"createdAt\":\"2001-01-02T09:00\"}\n")));
+    }
+
+    @Test
+    void export_Csv_QuotesCellsAndDefusesFormulas() throws Exception {
+        String body = mockMvc.perform(get(EXPORT + "?format=csv&to=2002-01-01T00:00:00").header("Authorization", AUTH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] rows = body.replaceAll("(?m)^\\d+,", "").split("\r\n");
+        assertThat(rows).containsExactly(
+                "id,name,email,message,created_at",
+                "\"Ada\",\"ada@example.com\",\"First\",2001-01-01T09:00",
+                "\"Bob, Jr.\",\"bob@example.com\",\"Says \"\"hi\"\"\nthen leaves\",2001-01-02T09:00",
+                "\"Eve\",\"eve@example.com\",\"'=HYPERLINK(\"\"x\"\")\",2001-01-03T09:00");
+    }
+
+    @Test
+    void export_InvalidRangeOrFormat_Returns400() throws Exception {
+        mockMvc.perform(get(EXPORT + "?from=2001-02-01T00:00:00&to=2001-01-01T00:00:00").header("Authorization", AUTH))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(EXPORT + "?format=xml").header("Authorization", AUTH))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void insert(String name, String email, String message, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO contact_messages (name, email, message, created_at) VALUES (?, ?, ?, ?)",
+                name, email, message, createdAt);
+    }
+}
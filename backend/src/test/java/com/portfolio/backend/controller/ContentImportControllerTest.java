@@ -0,0 +1,121 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"portfolio.admin.token=test-admin-token", "portfolio.content.import.batch-size=2"})
+@AutoConfigureMockMvc
+class ContentImportControllerTest {
+
+    private static final String IMPORT = "/api/v1/admin/content/import";
+    private static final String AUTH = "Bearer test-admin-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.findBySlugIn(List.of("import-one", "import-two", "import-three"))
+                .forEach(blogRepository::delete);
+        projectRepository.findBySlug("import-project").ifPresent(projectRepository::delete);
+    }
+
+    @Test
+    void import_WithoutToken_Returns401() throws Exception {
+        mockMvc.perform(post(IMPORT).contentType("application/zip").content(zip(Map.of())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void import_UpsertsBySlugAndSkipsUnchangedFiles() throws Exception {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("blogs/import-one.md", blog("Import One", "## Zeppelin\n\nAirships and more."));
+        files.put("blogs/import-two.md", blog("Import Two", "Second body."));
+        files.put("blogs/import-three.md", blog("Import Three", "Third body."));
+        files.put("blogs/broken.md", "---\ntitle: Broken\n");
+        files.put("projects/import-project.md", "---\ntitle: Import Project\ntechStack: [Java, H2]\n---\nA project.\n");
+        files.put("images/cover.png", "not content");
+
+        importZip(files)
+                .andExpect(jsonPath("$.inserted").value(4))
+                .andExpect(jsonPath("$.updated").value(0))
+                .andExpect(jsonPath("$.unchanged").value(0))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("blogs/broken.md: front-matter is not closed with '---'"));
+
+        Blog one = blogRepository.findBySlug("import-one").orElseThrow();
+        assertThat(one.getContentHtml()).contains("<h2 id=\"zeppelin\">Zeppelin</h2>");
+        assertThat(one.getToc()).hasSize(1);
+        assertThat(one.getPublishedAt()).hasToString("2026-01-02T03:04");
+        Project project = projectRepository.findBySlug("import-project").orElseThrow();
+        assertThat(project.getDescription()).isEqualTo("A project.");
+        assertThat(project.getTechStack()).isEqualTo("Java, H2");
+
+        files.put("blogs/import-two.md", blog("Import Two, revised", "Second body, revised."));
+        importZip(files)
+                .andExpect(jsonPath("$.inserted").value(0))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(3));
+
+        // Caches and indexes follow the import like any other write
+        mockMvc.perform(get("/api/v1/blogs/import-two"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Import Two, revised"));
+        mockMvc.perform(get("/api/v1/search?q=zeppelin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].slug").value("import-one"));
+    }
+
+    private ResultActions importZip(Map<String, String> files) throws Exception {
+        return mockMvc.perform(post(IMPORT).header("Authorization", AUTH)
+                        .contentType("application/zip")
+                        .content(zip(files)))
+                .andExpect(status().isOk());
+    }
+
+    private static String blog(String title, String body) {
+        return "---\ntitle: \"" + title + "\"\ntags: Testing\npublishedAt: 2026-01-02T03:04\n---\n\n" + body + "\n";
+    }
+
+    private static byte[] zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class HomeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        projectRepository.deleteAll();
+        blogRepository.save(blog("Older Post", "older-post"));
+        blogRepository.save(blog("Newer Post", "newer-post"));
+        projectRepository.save(project("Plain Project", "plain-project", false));
+        projectRepository.save(project("Featured Project", "featured-project", true));
+    }
+
+    @Test
+    void getHome_ReturnsLatestBlogsFeaturedProjectsAndTags() throws Exception {
+        mockMvc.perform(get("/api/v1/home"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latestBlogs.length()").value(2))
+                .andExpect(jsonPath("$.latestBlogs[0].slug").value("newer-post"))
+                .andExpect(jsonPath("$.latestBlogs[0].content").doesNotExist())
+                .andExpect(jsonPath("$.featuredProjects[0].slug").value("featured-project"))
+                .andExpect(jsonPath("$.featuredProjects[0].featured").value(true))
+                .andExpect(jsonPath("$.featuredProjects[1].slug").value("plain-project"))
+                .andExpect(jsonPath("$.blogTags[0].tag").value("Home"))
+                .andExpect(jsonPath("$.blogTags[0].count").value(2))
+                .andExpect(jsonPath("$.projectTags[0].tag").value("Java"));
+    }
+
+    @Test
+    void getHome_ServesSameBytesUntilContentChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/home"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/home").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        blogRepository.save(blog("Newest Post", "newest-post"));
+
+        mockMvc.perform(get("/api/v1/home").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latestBlogs[0].slug").value("newest-post"))
+                .andExpect(jsonPath("$.blogTags[0].count").value(3));
+    }
+
+    private static Blog blog(String title, String slug) {
+        Blog blog = new Blog();
+        blog.setTitle(title);
+        blog.setSlug(slug);
+        blog.setContent("Content of " + title);
+        blog.setExcerpt("Excerpt");
+        blog.setTags("Home");
+        return blog;
+    }
+
+    private static Project project(String title, String slug, boolean featured) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setSlug(slug);
+        project.setDescription("A project");
+        project.setTechStack("Java");
+        project.setFeatured(featured);
+        return project;
+    }
+}
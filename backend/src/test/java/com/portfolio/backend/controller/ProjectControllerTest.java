@@ -9,6 +9,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.jayway.jsonpath.JsonPath;
+
+import static org.hamcrest.Matchers.contains;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -26,14 +29,18 @@ class ProjectControllerTest {
     @BeforeEach
     void setUp() {
         projectRepository.deleteAll();
+        projectRepository.save(project("Test Project", "test-project"));
+    }
+
+    private Project project(String title, String slug) {
         Project project = new Project();
-        project.setTitle("Test Project");
-        project.setSlug("test-project");
+        project.setTitle(title);
+        project.setSlug(slug);
         project.setDescription("A test project");
         project.setTechStack("Java, Spring");
         project.setGithubUrl("https://github.com/test/test");
         project.setImageUrl("https://example.com/project.jpg");
-        projectRepository.save(project);
+        return project;
     }
 
     @Test
@@ -44,6 +51,74 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.items.length()").value(1));
     }
 
+    @Test
+    void getProjects_WithCursor_WalksAllPagesWithoutTotal() throws Exception {
+        projectRepository.save(project("Second Project", "second-project"));
+        projectRepository.save(project("Third Project", "third-project"));
+
+        String body = mockMvc.perform(get("/api/v1/projects?cursor=&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].slug").value("test-project"))
+                .andExpect(jsonPath("$.total").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(body, "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/projects").param("cursor", cursor).param("size", "2").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].slug").value("third-project"))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getProjects_WithMalformedCursor_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/projects?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getProjects_FilteredByTag_ReturnsMatchesAndTagCounts() throws Exception {
+        Project other = project("Go Service", "go-service");
+        other.setTechStack("Go, Docker");
+        projectRepository.save(other);
+
+        mockMvc.perform(get("/api/v1/projects?tag=docker"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].slug").value("go-service"))
+                .andExpect(jsonPath("$.total").value(1));
+
+        mockMvc.perform(get("/api/v1/projects/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.tag == 'Java')].count").value(1))
+                .andExpect(jsonPath("$[?(@.tag == 'Docker')].count").value(1));
+    }
+
+    @Test
+    void getProjects_InvalidSize_Returns400AndLargeSizeIsCapped() throws Exception {
+        mockMvc.perform(get("/api/v1/projects?size=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("'size' must be at least 1, got 0"));
+        mockMvc.perform(get("/api/v1/projects?cursor=&size=-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects?tag=test&size=0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects?page=-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects?size=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(50));
+    }
+
+    @Test
+    void getProjects_TagWithCursor_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/projects?tag=docker&cursor="))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getProjectBySlug_ReturnsProject() throws Exception {
         mockMvc.perform(get("/api/v1/projects/test-project"))
@@ -52,9 +127,42 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.techStack").isArray());
     }
 
+    @Test
+    void getProjectsBySlugs_ReturnsRequestOrderWithMisses() throws Exception {
+        projectRepository.save(project("Second Project", "second-project"));
+        // Served from the per-slug cache, while the other slug comes from the database
+        mockMvc.perform(get("/api/v1/projects/test-project")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/batch?slugs=missing&slugs=second-project,test-project"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0]").isEmpty())
+                .andExpect(jsonPath("$.items[1].slug").value("second-project"))
+                .andExpect(jsonPath("$.items[2].slug").value("test-project"))
+                .andExpect(jsonPath("$.missing").value(contains("missing")));
+
+        mockMvc.perform(get("/api/v1/projects/batch"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getProjectBySlug_NotFound_Returns404() throws Exception {
         mockMvc.perform(get("/api/v1/projects/non-existent"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getTrendingProjects_RanksByRecentViews() throws Exception {
+        projectRepository.save(project("Hot Project", "hot-project"));
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/projects/hot-project")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/projects/trending?limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].slug").value("hot-project"))
+                .andExpect(jsonPath("$[0].trendingScore").isNumber())
+                .andExpect(jsonPath("$[0].description").value("A test project"));
+    }
 }
@@ -0,0 +1,36 @@
+package com.portfolio.backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "portfolio.admin.token=test-admin-token")
+@AutoConfigureMockMvc
+class RateLimitStatsControllerTest {
+
+    private static final String STATS = "/api/v1/admin/rate-limits";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getRateLimitStats_WithoutToken_Returns401() throws Exception {
+        mockMvc.perform(get(STATS)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void getRateLimitStats_ReturnsEachContactLimiter() throws Exception {
+        mockMvc.perform(get(STATS + "?top=5").header("Authorization", "Bearer test-admin-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("contact.ip"))
+                .andExpect(jsonPath("$[0].topRejected").isArray())
+                .andExpect(jsonPath("$[1].name").value("contact.email"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.findBySlug("search-blog").ifPresent(blogRepository::delete);
+        Blog blog = new Blog();
+        blog.setTitle("Zanzibar authorization");
+        blog.setSlug("search-blog");
+        blog.setContent("Relationship-based access control.");
+        blog.setExcerpt("Notes on Zanzibar");
+        blog.setTags("Security");
+        blogRepository.save(blog);
+    }
+
+    @Test
+    void search_FindsNewlySavedBlog() throws Exception {
+        mockMvc.perform(get("/api/v1/search?q=zanzibar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].slug").value("search-blog"))
+                .andExpect(jsonPath("$[0].type").value("blog"));
+    }
+
+    @Test
+    void search_UnknownType_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/search?q=zanzibar&type=video"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void search_MissingOrBlankQuery_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("q must not be blank"));
+        mockMvc.perform(get("/api/v1/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
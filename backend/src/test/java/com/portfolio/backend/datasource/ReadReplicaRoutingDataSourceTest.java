@@ -0,0 +1,83 @@
+package com.portfolio.backend.datasource;
+
+import com.portfolio.backend.event.ContentChangedEvent;
+import com.portfolio.backend.model.Blog;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_ReadOnlyGoesToReplica_WritesToPrimary() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(h2(REPLICA_URL));
+
+        assertThat(urlOf(routing)).isEqualTo(PRIMARY_URL);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(urlOf(routing)).isEqualTo(REPLICA_URL);
+    }
+
+    @Test
+    void getConnection_ReplicaDown_FallsBackToPrimaryUntilRetryInterval() throws SQLException {
+        JdbcDataSource replica = h2("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE");
+        ReadReplicaRoutingDataSource routing = routing(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(urlOf(routing)).isEqualTo(PRIMARY_URL);
+
+        replica.setURL(REPLICA_URL);
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(urlOf(routing)).isEqualTo(PRIMARY_URL);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(urlOf(routing)).isEqualTo(REPLICA_URL);
+    }
+
+    @Test
+    void getConnection_AfterContentChange_ReadsFromPrimaryForWindow() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(h2(REPLICA_URL));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routing.onContentChanged(new ContentChangedEvent(new Blog(), ContentChangedEvent.Action.SAVED));
+        assertThat(urlOf(routing)).isEqualTo(PRIMARY_URL);
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(urlOf(routing)).isEqualTo(REPLICA_URL);
+    }
+
+    private ReadReplicaRoutingDataSource routing(DataSource replica) {
+        return new ReadReplicaRoutingDataSource(h2(PRIMARY_URL), replica,
+                Duration.ofSeconds(10), Duration.ofSeconds(2), clock::get);
+    }
+
+    private static JdbcDataSource h2(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static String urlOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
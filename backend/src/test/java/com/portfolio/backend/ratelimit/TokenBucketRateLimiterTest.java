@@ -0,0 +1,174 @@
+package com.portfolio.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryAcquire_AllowsBurstThenRejectsWithRetryAfter() {
+        TokenBucketRateLimiter limiter = limiter(3, 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        }
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire("a");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(60);
+        assertThat(limiter.tryAcquire("b").allowed()).isTrue();
+    }
+
+    @Test
+    void tryAcquire_RefillsOneTokenPerInterval() {
+        TokenBucketRateLimiter limiter = limiter(2, 10);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        advance(Duration.ofSeconds(59));
+        assertThat(limiter.tryAcquire("a").retryAfterSeconds()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(1));
+        assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isFalse();
+
+        advance(Duration.ofMinutes(10));
+        assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isFalse();
+    }
+
+    @Test
+    void evictIdle_DropsOnlyFullyRefilledBuckets() {
+        TokenBucketRateLimiter limiter = limiter(2, 10);
+        limiter.tryAcquire("a");
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("b");
+
+        advance(Duration.ofSeconds(30));
+        limiter.evictIdle();
+
+        RateLimiterStats stats = limiter.stats(10);
+        assertThat(stats.trackedKeys()).isEqualTo(1);
+        assertThat(stats.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void stats_KeepsTotalsOfEvictedBuckets() {
+        TokenBucketRateLimiter limiter = limiter(1, 10);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        advance(Duration.ofMinutes(1));
+        limiter.evictIdle();
+
+        RateLimiterStats stats = limiter.stats(10);
+        assertThat(stats.trackedKeys()).isZero();
+        assertThat(stats.allowed()).isEqualTo(1);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.topRejected()).isEmpty();
+    }
+
+    @Test
+    void tryAcquire_SharesOverflowBucketOnceMaxKeysAreBusy() {
+        TokenBucketRateLimiter limiter = limiter(1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertThat(limiter.tryAcquire("c").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("d").allowed()).isFalse();
+
+        RateLimiterStats stats = limiter.stats(10);
+        assertThat(stats.trackedKeys()).isEqualTo(2);
+        assertThat(stats.overflow().allowed()).isEqualTo(1);
+        assertThat(stats.overflow().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_SweepsInlineAtMostOncePerInterval() {
+        TokenBucketRateLimiter limiter = limiter(1, 2);
+        limiter.tryAcquire("a");
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("b");
+
+        // "a" is full again, so the inline sweep makes room for "c"
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("c");
+        assertThat(limiter.stats(0).evictions()).isEqualTo(1);
+
+        // "b" is full too, but the next inline sweep is not due yet
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("d");
+        assertThat(limiter.stats(0).evictions()).isEqualTo(1);
+        assertThat(limiter.stats(0).overflow().allowed()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("e");
+        RateLimiterStats stats = limiter.stats(0);
+        assertThat(stats.evictions()).isEqualTo(3);
+        assertThat(stats.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void stats_ReportsTopRejectedKeys() {
+        TokenBucketRateLimiter limiter = limiter(1, 10);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("noisy");
+        }
+        limiter.tryAcquire("quiet");
+        limiter.tryAcquire("quiet");
+
+        RateLimiterStats stats = limiter.stats(1);
+        assertThat(stats.allowed()).isEqualTo(2);
+        assertThat(stats.rejected()).isEqualTo(4);
+        assertThat(stats.topRejected()).containsExactly(new RateLimiterStats.KeyStats("noisy", 1, 3));
+    }
+
+    @Test
+    void tryAcquire_NeverOverAdmitsUnderContention() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(100, 10);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("shared").allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(allowed).hasValue(100);
+    }
+
+    private TokenBucketRateLimiter limiter(int capacity, int maxKeys) {
+        return new TokenBucketRateLimiter("test", capacity, Duration.ofMinutes(1), maxKeys, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedContentIndexTest {
+
+    private final RelatedContentIndex index = new RelatedContentIndex(2);
+
+    private static SearchDocument blog(long id, String title, String tags, String body) {
+        return new SearchDocument(SearchDocument.Type.BLOG, id, "blog-" + id, title, null, tags, body);
+    }
+
+    private static SearchDocument project(long id, String title, String techStack) {
+        return new SearchDocument(SearchDocument.Type.PROJECT, id, "project-" + id, title, null, techStack, null);
+    }
+
+    @Test
+    void get_RanksBySharedDistinctiveTermsAndExcludesSelf() {
+        index.rebuild(List.of(
+                blog(1, "Spring Security filters", "Spring, Security", "Authentication providers."),
+                blog(2, "Securing Spring Boot APIs", "Spring, Security", "JWT and filters."),
+                blog(3, "Spring Boot on Railway", "Spring, Deployment", "Docker images."),
+                blog(4, "Pandas tricks", "Python", "Data frames."),
+                project(10, "Auth gateway", "Spring Security, JWT"),
+                project(11, "Notebook", "Python, Pandas")));
+
+        RelatedContentIndex.Related related = index.get(SearchDocument.Type.BLOG, "blog-1");
+
+        assertThat(related.blogs()).extracting(SearchHit::entityId).containsExactly(2L, 3L);
+        assertThat(related.blogs().get(0).score()).isGreaterThan(related.blogs().get(1).score());
+        assertThat(related.projects()).extracting(SearchHit::entityId).containsExactly(10L);
+        assertThat(index.get(SearchDocument.Type.PROJECT, "project-11").blogs())
+                .extracting(SearchHit::entityId).containsExactly(4L);
+    }
+
+    @Test
+    void upsertAndRemove_UpdateOtherDocumentsLists() {
+        index.rebuild(List.of(
+                blog(1, "Kafka consumers", "Kafka", null),
+                blog(2, "Redis caching", "Redis", null)));
+        assertThat(index.get(SearchDocument.Type.BLOG, "blog-1").blogs()).isEmpty();
+        long version = index.version();
+
+        index.upsert(blog(3, "Kafka producers", "Kafka", null));
+        assertThat(index.get(SearchDocument.Type.BLOG, "blog-1").blogs()).extracting(SearchHit::entityId)
+                .containsExactly(3L);
+        assertThat(index.version()).isGreaterThan(version);
+
+        index.remove(SearchDocument.Type.BLOG, 3L);
+        assertThat(index.get(SearchDocument.Type.BLOG, "blog-1").blogs()).isEmpty();
+        assertThat(index.get(SearchDocument.Type.BLOG, "blog-3")).isNull();
+    }
+}
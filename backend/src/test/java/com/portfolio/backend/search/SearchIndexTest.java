@@ -0,0 +1,61 @@
+package com.portfolio.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    private static SearchDocument blog(long id, String title, String tags, String body) {
+        return new SearchDocument(SearchDocument.Type.BLOG, id, "blog-" + id, title, null, tags, body);
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveBodyMentions() {
+        index.upsert(blog(1, "Cooking pasta", "Food", "A passing note about Spring in Italy."));
+        index.upsert(blog(2, "Spring Security deep dive", "Spring, Java", "Filters and providers."));
+        index.upsert(blog(3, "Data cleaning", "Python", "Pandas and numpy."));
+
+        List<SearchHit> hits = index.search("spring", null, 10);
+
+        assertThat(hits).extracting(SearchHit::entityId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_FoldsPluralsAndIgnoresCaseAndPunctuation() {
+        index.upsert(blog(1, "Microservices in Spring Boot", "Architecture", null));
+
+        assertThat(index.search("MICROSERVICE?", null, 10)).hasSize(1);
+        assertThat(index.search("the", null, 10)).isEmpty();
+    }
+
+    @Test
+    void upsert_ReplacesPreviousVersionAndRemoveDropsDocument() {
+        index.upsert(blog(1, "Kafka streams", null, null));
+        index.upsert(blog(1, "Redis caching", null, null));
+
+        assertThat(index.search("kafka", null, 10)).isEmpty();
+        assertThat(index.search("redis", null, 10)).extracting(SearchHit::entityId).containsExactly(1L);
+
+        index.remove(SearchDocument.Type.BLOG, 1L);
+        assertThat(index.search("redis", null, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void search_FiltersByTypeAndSurvivesCompaction() {
+        for (int round = 0; round < 100; round++) {
+            index.upsert(blog(1, "Docker compose round " + round, null, null));
+        }
+        index.upsert(new SearchDocument(SearchDocument.Type.PROJECT, 1L, "infra", "Docker infra", null, "Docker", null));
+
+        assertThat(index.search("docker", SearchDocument.Type.PROJECT, 10))
+                .extracting(SearchHit::slug).containsExactly("infra");
+        assertThat(index.search("docker", null, 10)).hasSize(2);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    void matchAll_IntersectsTagsCaseInsensitively() {
+        index.put(1, List.of("Java", "Spring Boot"));
+        index.put(2, List.of("java", "Docker"));
+        index.put(3, List.of("Spring Boot", "Docker"));
+
+        assertThat(index.matchAll(List.of("JAVA")).stream()).containsExactly(1, 2);
+        assertThat(index.matchAll(List.of("spring boot", "docker")).stream()).containsExactly(3);
+        assertThat(index.matchAll(List.of("Kotlin")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void put_ReplacesTagsAndCountsReflectCurrentState() {
+        index.put(1, List.of("Java", "Spring Boot"));
+        index.put(2, List.of("Java"));
+        index.put(1, List.of("Docker"));
+        index.remove(2);
+
+        assertThat(index.counts()).containsExactly(new TagIndex.TagCount("Docker", 1));
+        assertThat(index.matchAll(List.of("Java")).isEmpty()).isTrue();
+    }
+}
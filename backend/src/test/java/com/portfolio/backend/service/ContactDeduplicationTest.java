@@ -0,0 +1,81 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.ratelimit.ContactDeduplicator;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "portfolio.contact.dedup.window=1h")
+class ContactDeduplicationTest {
+
+    @Autowired
+    private ContactService service;
+
+    @Autowired
+    private ContactDeduplicator deduplicator;
+
+    @Autowired
+    private ContactMessageRepository messageRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        messageRepository.deleteAll();
+    }
+
+    @Test
+    void saveMessage_RepeatWithinWindow_IsAcknowledgedWithoutRowOrEmail() {
+        ContactMessage first = service.saveMessage(message("Ada", "ada@example.com", "Hello there"));
+        ContactMessage repeat = service.saveMessage(message("Ada L.", " ADA@example.com", "hello   THERE\n"));
+
+        assertThat(repeat.getId()).isEqualTo(first.getId());
+        assertThat(messageRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        service.saveMessage(message("Ada", "ada@example.com", "A different question"));
+        assertThat(messageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void saveMessage_RepeatStoredElsewhere_IsCaughtByUniqueIndex() {
+        // As if written by another instance, or before a restart emptied the in-memory set
+        String text = "Stored by another instance";
+        ContactMessage stored = message("Bob", "bob@example.com", text);
+        stored.setFingerprint(ContactDeduplicator.fingerprint("bob@example.com", text));
+        stored.setDedupWindow(deduplicator.window(System.currentTimeMillis()));
+        stored = messageRepository.save(stored);
+
+        ContactMessage repeat = service.saveMessage(message("Bob", "bob@example.com", text));
+
+        assertThat(repeat.getId()).isEqualTo(stored.getId());
+        assertThat(messageRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void fingerprint_IgnoresCaseAndWhitespaceButNotContent() {
+        String fingerprint = ContactDeduplicator.fingerprint("a@example.com", "Hi  there");
+
+        assertThat(ContactDeduplicator.fingerprint(" A@Example.com ", "hi there\n")).isEqualTo(fingerprint);
+        assertThat(ContactDeduplicator.fingerprint("a@example.com", "Hi where")).isNotEqualTo(fingerprint);
+        assertThat(ContactDeduplicator.fingerprint("b@example.com", "Hi there")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint).hasSize(64);
+    }
+
+    private static ContactMessage message(String name, String email, String text) {
+        ContactMessage message = new ContactMessage();
+        message.setName(name);
+        message.setEmail(email);
+        message.setMessage(text);
+        return message;
+    }
+}
@@ -0,0 +1,142 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.model.EmailOutbox;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.repository.EmailOutboxRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "portfolio.outbox.max-attempts=2",
+    "portfolio.outbox.initial-backoff=0s",
+    "portfolio.contact.dedup.enabled=false"
+})
+@AutoConfigureMockMvc
+class ContactOutboxTest {
+
+    private static HttpServer resendStub;
+    private static final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger responseStatus = new AtomicInteger(200);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private ContactMessageRepository messageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startResendStub() throws IOException {
+        resendStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        resendStub.createContext("/emails", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] body = "{\"id\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(responseStatus.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        resendStub.start();
+    }
+
+    @AfterAll
+    static void stopResendStub() {
+        resendStub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void resendProperties(DynamicPropertyRegistry registry) {
+        registry.add("resend.api.url",
+                () -> "http://127.0.0.1:" + resendStub.getAddress().getPort() + "/emails");
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        messageRepository.deleteAll();
+        receivedBodies.clear();
+        responseStatus.set(200);
+    }
+
+    @Test
+    void submit_PersistsMessageAndOutboxWithoutCallingResend() throws Exception {
+        submit("Ada <script>");
+
+        assertThat(receivedBodies).isEmpty();
+        assertThat(messageRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.countByStatus(EmailOutbox.Status.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchDue_SendsPendingEmailAndMarksItSent() throws Exception {
+        submit("Ada <script>");
+
+        assertThat(dispatcher.dispatchDue()).isEqualTo(1);
+
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(receivedBodies.get(0)).contains("Ada &lt;script&gt;").doesNotContain("<script>");
+        EmailOutbox entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+        assertThat(entry.getSentAt()).isNotNull();
+        assertThat(dispatcher.dispatchDue()).isZero();
+        assertThat(meterRegistry.get("portfolio.resend.requests")
+                .tags("status", "200", "outcome", "SUCCESS").timer().count()).isPositive();
+    }
+
+    @Test
+    void dispatchDue_RetriesThenDeadLettersOnPersistentFailure() throws Exception {
+        responseStatus.set(500);
+        submit("Ada");
+
+        dispatcher.dispatchDue();
+        EmailOutbox entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getLastError()).contains("500");
+
+        dispatcher.dispatchDue();
+        entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(receivedBodies).hasSize(2);
+        assertThat(meterRegistry.get("portfolio.resend.requests")
+                .tags("status", "500", "outcome", "SERVER_ERROR").timer().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    private void submit(String name) throws Exception {
+        mockMvc.perform(post("/api/v1/contact")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"email\":\"ada@example.com\",\"message\":\"Hello\"}"))
+                .andExpect(status().isOk());
+    }
+}
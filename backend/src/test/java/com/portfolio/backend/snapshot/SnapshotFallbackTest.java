@@ -0,0 +1,119 @@
+package com.portfolio.backend.snapshot;
+
+import com.portfolio.backend.cache.ResponseBodyCache;
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.service.CachingBlogService;
+import com.portfolio.backend.service.CachingProjectService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "portfolio.snapshot.enabled=true",
+    "portfolio.snapshot.refresh-interval=1h"
+})
+@AutoConfigureMockMvc
+class SnapshotFallbackTest {
+
+    @TempDir
+    static Path dir;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private SnapshotExporter exporter;
+
+    @Autowired
+    private SnapshotStore store;
+
+    @Autowired
+    private CachingBlogService blogService;
+
+    @Autowired
+    private CachingProjectService projectService;
+
+    @Autowired
+    private ResponseBodyCache responses;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("portfolio.snapshot.path", () -> dir.resolve("snapshot.bin").toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.findBySlug("snapshot-blog").ifPresent(blogRepository::delete);
+        Blog blog = new Blog();
+        blog.setTitle("Snapshot Blog");
+        blog.setSlug("snapshot-blog");
+        blog.setContent("# Served from disk");
+        blog.setExcerpt("Snapshot");
+        blog.setTags("Resilience");
+        blogRepository.save(blog);
+    }
+
+    @Test
+    @DirtiesContext
+    void reads_FallBackToSnapshotWhileDatabaseIsUnreachable() throws Exception {
+        exporter.export();
+        blogService.invalidateAll();
+        projectService.invalidateAll();
+        responses.invalidate(ResponseBodyCache.Group.BLOGS);
+        responses.invalidate(ResponseBodyCache.Group.PROJECTS);
+
+        // Every later connection attempt fails, as with MySQL down; the context is discarded afterwards
+        ((HikariDataSource) dataSource).close();
+
+        mockMvc.perform(get("/api/v1/blogs/snapshot-blog"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Snapshot Blog"))
+                .andExpect(jsonPath("$.contentHtml").doesNotExist());
+        mockMvc.perform(get("/api/v1/blogs?page=0&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.slug == 'snapshot-blog')]").exists());
+        mockMvc.perform(get("/api/v1/blogs/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.tag == 'Resilience')].count").value(1));
+        mockMvc.perform(get("/api/v1/projects"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/blogs/not-in-snapshot"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void contentChange_MarksSnapshotStale() {
+        exporter.export();
+        assertThat(store.status().fresh()).isTrue();
+        assertThat(store.status().entries()).isPositive();
+
+        Blog blog = blogRepository.findBySlug("snapshot-blog").orElseThrow();
+        blog.setTitle("Renamed");
+        blogRepository.save(blog);
+
+        assertThat(store.status().fresh()).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.backend.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_ThenOpen_ReturnsEntriesByKey() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        Instant createdAt = Instant.parse("2026-05-01T10:00:00Z");
+        Map<String, SnapshotFile.Entry> entries = new LinkedHashMap<>();
+        entries.put("blogs:slug:héllo:false", new SnapshotFile.Entry(bytes("{\"a\":1}"), null, "h1"));
+        entries.put("blogs:tags", new SnapshotFile.Entry(bytes("[]"), bytes("gz"), "h2"));
+
+        SnapshotFile.write(path, createdAt, entries);
+        SnapshotFile snapshot = SnapshotFile.open(path);
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.createdAt()).isEqualTo(createdAt);
+        SnapshotFile.Entry first = snapshot.get("blogs:slug:héllo:false").orElseThrow();
+        assertThat(first.json()).isEqualTo(bytes("{\"a\":1}"));
+        assertThat(first.gzip()).isNull();
+        assertThat(first.hash()).isEqualTo("h1");
+        assertThat(snapshot.get("blogs:tags").orElseThrow().gzip()).isEqualTo(bytes("gz"));
+        assertThat(snapshot.get("missing")).isEmpty();
+    }
+
+    @Test
+    void write_ReplacesFileWhileOldMappingStaysReadable() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        SnapshotFile.write(path, Instant.now(), Map.of("k", new SnapshotFile.Entry(bytes("old"), null, "1")));
+        SnapshotFile old = SnapshotFile.open(path);
+
+        SnapshotFile.write(path, Instant.now(), Map.of("k", new SnapshotFile.Entry(bytes("new"), null, "2")));
+
+        assertThat(old.get("k").orElseThrow().json()).isEqualTo(bytes("old"));
+        assertThat(SnapshotFile.open(path).get("k").orElseThrow().json()).isEqualTo(bytes("new"));
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void open_RejectsCorruptedFile() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        SnapshotFile.write(path, Instant.now(), Map.of("k", new SnapshotFile.Entry(bytes("body"), null, "1")));
+        byte[] content = Files.readAllBytes(path);
+        content[content.length - 1] ^= 1;
+        Files.write(path, content);
+
+        assertThatThrownBy(() -> SnapshotFile.open(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
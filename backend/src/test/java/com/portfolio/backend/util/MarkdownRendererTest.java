@@ -0,0 +1,48 @@
+package com.portfolio.backend.util;
+
+import com.portfolio.backend.model.TocEntry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    @Test
+    void render_BuildsAnchoredHeadingsAndTableOfContents() {
+        MarkdownRenderer.Rendered rendered = MarkdownRenderer.render("""
+                ## The Filter Chain
+
+                Text.
+
+                ### `SecurityContextHolder`
+
+                ## The Filter Chain
+                """);
+
+        assertThat(rendered.toc()).containsExactly(
+                new TocEntry(2, "The Filter Chain", "the-filter-chain"),
+                new TocEntry(3, "SecurityContextHolder", "securitycontextholder"),
+                new TocEntry(2, "The Filter Chain", "the-filter-chain-1"));
+        assertThat(rendered.html())
+                .contains("<h2 id=\"the-filter-chain\">The Filter Chain</h2>")
+                .contains("<h2 id=\"the-filter-chain-1\">");
+    }
+
+    @Test
+    void render_EscapesRawHtmlAndSanitizesLinks() {
+        MarkdownRenderer.Rendered rendered = MarkdownRenderer.render(
+                "<script>alert(1)</script>\n\n[click](javascript:alert(1))");
+
+        assertThat(rendered.html()).doesNotContain("<script>").doesNotContain("javascript:");
+        assertThat(rendered.html()).contains("&lt;script&gt;");
+    }
+
+    @Test
+    void render_CountsWordsAndRoundsReadingTimeUp() {
+        MarkdownRenderer.Rendered rendered = MarkdownRenderer.render("word ".repeat(201));
+
+        assertThat(rendered.wordCount()).isEqualTo(201);
+        assertThat(rendered.readingTimeMinutes()).isEqualTo(2);
+        assertThat(MarkdownRenderer.render("").readingTimeMinutes()).isZero();
+    }
+}
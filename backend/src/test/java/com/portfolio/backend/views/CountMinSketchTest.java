@@ -0,0 +1,39 @@
+package com.portfolio.backend.views;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_NeverUndercountsAndStaysCloseForFrequentKeys() {
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("key-" + (i % 1000), 1);
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.add("hot", 1);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimate("key-" + i)).isGreaterThanOrEqualTo(5);
+        }
+        // e/width of the 5500 total is about 58; conservative updates stay well inside that
+        assertThat(sketch.estimate("hot")).isBetween(500.0, 558.0);
+        assertThat(sketch.estimate("never-added")).isLessThan(58.0);
+    }
+
+    @Test
+    void scale_MultipliesEveryEstimate() {
+        CountMinSketch sketch = new CountMinSketch(100, 3);
+        sketch.add("a", 8);
+        sketch.add("b", 2);
+
+        sketch.scale(0.25);
+
+        assertThat(sketch.estimate("a")).isCloseTo(2.0, within(1e-9));
+        assertThat(sketch.estimate("b")).isCloseTo(0.5, within(1e-9));
+    }
+}
@@ -0,0 +1,100 @@
+package com.portfolio.backend.views;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingHeavyHittersTest {
+
+    private static final Duration HALF_LIFE = Duration.ofDays(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void top_RecentViewsOutrankOlderOnes() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(256, 4, 10, HALF_LIFE, clock::get);
+        record(hitters, "old-favourite", 10);
+        clock.addAndGet(Duration.ofDays(2).toMillis());
+        record(hitters, "new-post", 4);
+
+        List<DecayingHeavyHitters.Entry> top = hitters.top(5);
+
+        assertThat(top).extracting(DecayingHeavyHitters.Entry::key).containsExactly("new-post", "old-favourite");
+        assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-6));
+        assertThat(top.get(1).score()).isCloseTo(2.5, within(1e-6));
+    }
+
+    @Test
+    void record_KeepsAtMostCapacityCandidates_AndAHeavyNewcomerGetsIn() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(1024, 4, 3, HALF_LIFE, clock::get);
+        for (int i = 0; i < 1000; i++) {
+            hitters.record("long-tail-" + i);
+        }
+        record(hitters, "breakout", 20);
+
+        List<DecayingHeavyHitters.Entry> top = hitters.top(10);
+
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).key()).isEqualTo("breakout");
+    }
+
+    @Test
+    void record_RescalingAfterLongIdleKeepsScores() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(256, 4, 10, HALF_LIFE, clock::get);
+        record(hitters, "a", 2);
+        // 2^50 exceeds the rescale threshold, so the next event moves the landmark
+        clock.addAndGet(HALF_LIFE.toMillis() * 50);
+        record(hitters, "b", 3);
+
+        List<DecayingHeavyHitters.Entry> top = hitters.top(2);
+
+        assertThat(top.get(0).key()).isEqualTo("b");
+        assertThat(top.get(0).score()).isCloseTo(3.0, within(1e-6));
+        assertThat(top.get(1).score()).isCloseTo(2 * Math.pow(2, -50), within(1e-18));
+    }
+
+    @Test
+    void record_LosesNoEventsUnderContention() throws Exception {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(1024, 4, 5, HALF_LIFE, clock::get);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        hitters.record("hot");
+                        hitters.record("tail-" + thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<DecayingHeavyHitters.Entry> top = hitters.top(10);
+
+        assertThat(top).hasSizeLessThanOrEqualTo(5);
+        assertThat(top.get(0).key()).isEqualTo("hot");
+        assertThat(top.get(0).score()).isGreaterThanOrEqualTo(8000);
+    }
+
+    private static void record(DecayingHeavyHitters hitters, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            hitters.record(key);
+        }
+    }
+}
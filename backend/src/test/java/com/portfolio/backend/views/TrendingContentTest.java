@@ -0,0 +1,40 @@
+package com.portfolio.backend.views;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingContentTest {
+
+    private final TrendingContent trending = new TrendingContent(Duration.ofDays(3), 256, 4, 10);
+
+    @Test
+    void recordView_CountsServedViewsAndExternalReferrers() {
+        ResponseEntity<byte[]> ok = ResponseEntity.ok().build();
+        trending.recordView(ViewCounter.Kind.BLOG, "post", ok, request("https://www.News.example.com/item?id=1"));
+        trending.recordView(ViewCounter.Kind.BLOG, "post", ok, request("https://news.example.com/"));
+        trending.recordView(ViewCounter.Kind.BLOG, "post", ok, request("https://portfolio.example.com/blog"));
+        trending.recordView(ViewCounter.Kind.BLOG, "post", ok, request("not a url"));
+        trending.recordView(ViewCounter.Kind.BLOG, "missing", ResponseEntity.notFound().build(),
+                request("https://news.example.com/"));
+
+        assertThat(trending.top(ViewCounter.Kind.BLOG, 10))
+                .extracting(DecayingHeavyHitters.Entry::key).containsExactly("post");
+        assertThat(trending.top(ViewCounter.Kind.PROJECT, 10)).isEmpty();
+        assertThat(trending.topReferrers(10))
+                .extracting(DecayingHeavyHitters.Entry::key).containsExactly("news.example.com");
+    }
+
+    private static WebRequest request(String referer) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Host", "portfolio.example.com:443");
+        request.addHeader("Referer", referer);
+        return new ServletWebRequest(request);
+    }
+}
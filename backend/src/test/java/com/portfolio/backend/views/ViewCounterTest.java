@@ -0,0 +1,124 @@
+package com.portfolio.backend.views;
+
+import com.portfolio.backend.model.Blog;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.BlogRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ViewCounterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        projectRepository.deleteAll();
+        blogRepository.save(blog("First Post", "first-post"));
+        blogRepository.save(blog("Second Post", "second-post"));
+        Project project = new Project();
+        project.setTitle("Viewed Project");
+        project.setSlug("viewed-project");
+        project.setDescription("A project");
+        projectRepository.save(project);
+        viewCounter.flush();
+    }
+
+    @Test
+    void flush_AddsServedViewsToTheStoredCounts() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/blogs/first-post")).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/projects/viewed-project")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/blogs/no-such-post")).andExpect(status().isNotFound());
+
+        assertThat(viewCounter.views(ViewCounter.Kind.BLOG, "first-post")).isEqualTo(3);
+        assertThat(storedViews("blog", "first-post")).isZero();
+
+        assertThat(viewCounter.flush()).isTrue();
+
+        assertThat(storedViews("blog", "first-post")).isEqualTo(3);
+        assertThat(storedViews("projects", "viewed-project")).isEqualTo(1);
+        assertThat(viewCounter.views(ViewCounter.Kind.BLOG, "first-post")).isEqualTo(3);
+        assertThat(viewCounter.views(ViewCounter.Kind.BLOG, "no-such-post")).isZero();
+
+        // Nothing new to write: the stored counts stay as they are
+        viewCounter.flush();
+        assertThat(storedViews("blog", "first-post")).isEqualTo(3);
+    }
+
+    @Test
+    void apply_SkipsABatchThatAlreadyCommitted() {
+        ViewCounter.Batch batch = new ViewCounter.Batch("retried-batch", Map.of(
+                ViewCounter.Kind.BLOG, Map.of("second-post", 5L),
+                ViewCounter.Kind.PROJECT, Map.of()));
+
+        assertThat(viewCounter.apply(batch)).isTrue();
+        assertThat(viewCounter.apply(batch)).isFalse();
+
+        assertThat(storedViews("blog", "second-post")).isEqualTo(5);
+    }
+
+    @Test
+    void getPopularBlogs_RanksByViewsIncludingUnflushedOnes() throws Exception {
+        mockMvc.perform(get("/api/v1/blogs/first-post")).andExpect(status().isOk());
+        viewCounter.flush();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/blogs/second-post")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/blogs/popular?limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].slug").value("second-post"))
+                .andExpect(jsonPath("$[0].viewCount").value(2))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(jsonPath("$[1].slug").value("first-post"))
+                .andExpect(jsonPath("$[1].viewCount").value(1));
+
+        mockMvc.perform(get("/api/v1/blogs/popular?limit=1"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private long storedViews(String table, String slug) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM " + table + " WHERE slug = ?", Long.class, slug);
+    }
+
+    private static Blog blog(String title, String slug) {
+        Blog blog = new Blog();
+        blog.setTitle(title);
+        blog.setSlug(slug);
+        blog.setContent("Content of " + title);
+        blog.setExcerpt("Excerpt");
+        blog.setTags("Views");
+        return blog;
+    }
+}
@@ -1,7 +1,6 @@
 import { Footer } from '@/components/footer'
 import { Hero } from '@/components/sections/hero'
-import { getBlogSummaries } from '@/lib/api'
-import { getProjects } from '@/lib/projects'
+import { getHome } from '@/lib/api'
 import dynamic from 'next/dynamic'
 import { Suspense } from 'react'
 
@@ -24,8 +23,7 @@ const Certifications = dynamic(() => import('@/components/sections/certification
 const TechnicalExpertise = dynamic(() => import('@/components/sections/technical-expertise').then(mod => mod.TechnicalExpertise), { ssr: true, loading: () => <SectionSkeleton /> })
 
 export default async function Home() {
-  const blogs = await getBlogSummaries()
-  const projects = await getProjects()
+  const { blogs, projects } = await getHome()
 
   return (
     <main id="main-content" className="min-h-screen">
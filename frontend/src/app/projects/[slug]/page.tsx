@@ -4,7 +4,7 @@ import { GithubBadge } from '@/components/ui/github-badge'
 import { SectionReveal } from '@/components/ui/section-reveal'
 import { absoluteUrl } from '@/lib/site'
 import { getAllProjectSlugs, getProjectBySlug, getProjects } from '@/lib/projects'
-import { getBlogBySlug } from '@/lib/api'
+import { getBlogsBySlugs } from '@/lib/api'
 import { constructMetadata } from '@/lib/seo'
 import { cn } from '@/lib/utils'
 import {
@@ -138,9 +138,7 @@ export default async function ProjectCaseStudy({ params }: PageProps) {
 
   const hasCaseStudy = project.problemStatement || project.challenges?.length
 
-  const relatedBlogs = project.relatedBlogSlugs?.length
-    ? (await Promise.all(project.relatedBlogSlugs.map(getBlogBySlug))).filter(Boolean)
-    : []
+  const relatedBlogs = await getBlogsBySlugs(project.relatedBlogSlugs ?? [])
 
   return (
     <main className="min-h-screen bg-background">
@@ -356,15 +354,15 @@ export default async function ProjectCaseStudy({ params }: PageProps) {
                   <div className="grid sm:grid-cols-2 gap-4">
                     {relatedBlogs.map((blog) => (
                       <Link
-                        key={blog!.slug}
-                        href={`/blog/${blog!.slug}`}
+                        key={blog.slug}
+                        href={`/blog/${blog.slug}`}
                         className="glass rounded-xl p-5 space-y-2 border border-indigo-500/10 hover:border-indigo-500/30 transition-colors group"
                       >
                         <h3 className="font-semibold text-sm group-hover:text-indigo-400 transition-colors line-clamp-2">
-                          {blog!.title}
+                          {blog.title}
                         </h3>
                         <p className="text-xs text-muted-foreground/70 line-clamp-2">
-                          {blog!.excerpt}
+                          {blog.excerpt}
                         </p>
                         <span className="text-xs text-indigo-400 font-medium inline-flex items-center gap-1">
                           Read <ArrowUpRight className="w-3 h-3" />
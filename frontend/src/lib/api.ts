@@ -1,5 +1,6 @@
-import { Blog } from "@/types"
+import { Blog, Project } from "@/types"
 import { fetchJson } from "@/lib/utils"
+import { getProjects, toProject, type ProjectDTO } from "@/lib/projects"
 
 /** Static slug list for generateStaticParams fallback when backend is unavailable. */
 export const STATIC_BLOG_SLUGS = [
@@ -24,6 +25,16 @@ interface PagedResponse<T> {
   totalPages: number
 }
 
+interface BatchResponse<T> {
+  items: (T | null)[]
+  missing: string[]
+}
+
+interface HomeDTO {
+  latestBlogs: Omit<BlogDTO, "content">[]
+  featuredProjects: ProjectDTO[]
+}
+
 interface BlogDTO {
   id: number
   title: string
@@ -725,14 +736,14 @@ function toBlog(dto: BlogDTO): Blog {
 
 async function fetchAllBlogs(): Promise<BlogDTO[]> {
   const first = await fetchJson<PagedResponse<BlogDTO>>(
-    `${API_BASE}/blogs?page=0&size=50`,
+    `${API_BASE}/blogs?page=0&size=50&view=full`,
   )
   if (first.totalPages <= 1) return first.items
 
   const rest = await Promise.all(
     Array.from({ length: first.totalPages - 1 }, (_, i) =>
       fetchJson<PagedResponse<BlogDTO>>(
-        `${API_BASE}/blogs?page=${i + 1}&size=50`,
+        `${API_BASE}/blogs?page=${i + 1}&size=50&view=full`,
       ),
     ),
   )
@@ -772,3 +783,50 @@ export async function getBlogBySlug(slug: string): Promise<Blog | null> {
     return STATIC_BLOGS.find((b) => b.slug === slug) || null
   }
 }
+
+/**
+ * Several posts in one request, in the order given. Slugs the API does not know fall back to
+ * the static posts, and are skipped if there is none.
+ */
+export async function getBlogsBySlugs(requested: string[]): Promise<Blog[]> {
+  // The API drops repeated slugs, so dedupe here to keep items aligned with slugs
+  const slugs = Array.from(new Set(requested))
+  if (slugs.length === 0) return []
+  const staticBlog = (slug: string) => STATIC_BLOGS.find((b) => b.slug === slug)
+  let found: (Blog | undefined)[]
+  try {
+    const batch = await fetchJson<BatchResponse<BlogDTO>>(
+      `${API_BASE}/blogs/batch?slugs=${slugs.map(encodeURIComponent).join(",")}`,
+    )
+    found = batch.items.map((dto, i) => (dto ? toBlog(dto) : staticBlog(slugs[i])))
+  } catch (error) {
+    console.error("Failed to fetch blogs by slug, using static fallback:", error)
+    found = slugs.map(staticBlog)
+  }
+  return found.filter((blog): blog is Blog => blog !== undefined)
+}
+
+/**
+ * The landing page's posts and projects in one request. Falls back to the list endpoints, and
+ * from there to the static data, when the aggregate is unavailable.
+ */
+export async function getHome(): Promise<{
+  blogs: Omit<Blog, "content">[]
+  projects: Project[]
+}> {
+  try {
+    const home = await fetchJson<HomeDTO>(`${API_BASE}/home`)
+    return {
+      blogs: home.latestBlogs.map((dto) => {
+        // eslint-disable-next-line @typescript-eslint/no-unused-vars
+        const { content, ...rest } = toBlog({ ...dto, content: "" })
+        return rest
+      }),
+      projects: home.featuredProjects.map(toProject),
+    }
+  } catch (error) {
+    console.error("Failed to fetch home, using list endpoints:", error)
+    const [blogs, projects] = await Promise.all([getBlogSummaries(), getProjects()])
+    return { blogs, projects }
+  }
+}
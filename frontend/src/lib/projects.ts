@@ -17,7 +17,7 @@ interface PagedResponse<T> {
   totalPages: number
 }
 
-interface ProjectDTO {
+export interface ProjectDTO {
   id: number
   title: string
   slug: string
@@ -224,7 +224,7 @@ const STATIC_RICH_DATA: Record<string, Partial<Project>> = {
   },
 }
 
-function toProject(dto: ProjectDTO): Project {
+export function toProject(dto: ProjectDTO): Project {
   const rich = STATIC_RICH_DATA[dto.slug] ?? {}
   return {
     ...rich,